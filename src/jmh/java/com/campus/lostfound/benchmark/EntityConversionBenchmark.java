@@ -0,0 +1,92 @@
+package com.campus.lostfound.benchmark;
+
+import com.campus.lostfound.entity.DetailedLocation;
+import com.campus.lostfound.entity.Item;
+import com.campus.lostfound.entity.Location;
+import com.campus.lostfound.entity.converter.DetailedLocationConverter;
+import com.campus.lostfound.entity.converter.LocationConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 实体层热点基准：总权重计算与地点枚举的数据库列转换
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityConversionBenchmark {
+
+    private static final int SAMPLES = 1024;
+
+    private final LocationConverter locationConverter = new LocationConverter();
+    private final DetailedLocationConverter detailedLocationConverter = new DetailedLocationConverter();
+
+    private Item[] items;
+    private Location[] locations;
+    private DetailedLocation[] detailedLocations;
+    private String[] locationColumns;
+    private String[] detailedLocationColumns;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        List<Item> generated = SyntheticItems.generate(SAMPLES, 11L);
+        items = generated.toArray(new Item[0]);
+        locations = new Location[SAMPLES];
+        detailedLocations = new DetailedLocation[SAMPLES];
+        locationColumns = new String[SAMPLES];
+        detailedLocationColumns = new String[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            locations[i] = items[i].getLocation();
+            detailedLocations[i] = items[i].getDetailedLocation();
+            locationColumns[i] = locationConverter.convertToDatabaseColumn(locations[i]);
+            detailedLocationColumns[i] = detailedLocationConverter.convertToDatabaseColumn(detailedLocations[i]);
+        }
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (SAMPLES - 1);
+        return cursor;
+    }
+
+    @Benchmark
+    public Integer calculateTotalWeight() {
+        Item item = items[next()];
+        item.calculateTotalWeight();
+        return item.getTotalWeight();
+    }
+
+    @Benchmark
+    public String locationToColumn() {
+        return locationConverter.convertToDatabaseColumn(locations[next()]);
+    }
+
+    @Benchmark
+    public Location locationFromColumn() {
+        return locationConverter.convertToEntityAttribute(locationColumns[next()]);
+    }
+
+    @Benchmark
+    public String detailedLocationToColumn() {
+        return detailedLocationConverter.convertToDatabaseColumn(detailedLocations[next()]);
+    }
+
+    @Benchmark
+    public DetailedLocation detailedLocationFromColumn() {
+        return detailedLocationConverter.convertToEntityAttribute(detailedLocationColumns[next()]);
+    }
+}
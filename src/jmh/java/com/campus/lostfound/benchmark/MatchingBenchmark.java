@@ -0,0 +1,120 @@
+package com.campus.lostfound.benchmark;
+
+import com.campus.lostfound.entity.Item;
+import com.campus.lostfound.matching.ActiveItemStore;
+import com.campus.lostfound.matching.MatchCandidateIndex;
+import com.campus.lostfound.matching.TokenDictionary;
+import com.campus.lostfound.repository.ItemMatchRepository;
+import com.campus.lostfound.repository.ItemRepository;
+import com.campus.lostfound.service.ItemService;
+import com.campus.lostfound.service.MatchingService;
+import com.campus.lostfound.service.dto.MatchCandidate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 匹配热点路径基准：权重规则扫描（原 calculateMatchScore）与候选建议（suggestMatchesForItem）
+ * 数据库访问以内存桩代替，只衡量打分本身
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class MatchingBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int size;
+
+    private List<Item> items;
+    private ActiveItemStore store;
+    private ItemService itemService;
+    private ForkJoinPool scoringPool;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        items = SyntheticItems.generate(size, 42L);
+        Map<Long, Item> byId = new HashMap<>(items.size() * 2);
+        for (Item item : items) {
+            byId.put(item.getId(), item);
+        }
+
+        Map<String, Function<Object[], Object>> itemRepositoryAnswers = new HashMap<>();
+        itemRepositoryAnswers.put("findAllById", args -> {
+            List<Item> found = new ArrayList<>();
+            for (Object id : (Iterable<?>) args[0]) {
+                Item item = byId.get(id);
+                if (item != null) {
+                    found.add(item);
+                }
+            }
+            return found;
+        });
+        ItemRepository itemRepository = Stubs.answering(ItemRepository.class, itemRepositoryAnswers);
+        ItemMatchRepository itemMatchRepository = Stubs.empty(ItemMatchRepository.class);
+
+        store = new ActiveItemStore();
+        MatchCandidateIndex index = Stubs.construct(MatchCandidateIndex.class, itemRepository,
+                new TokenDictionary(), store);
+        for (Item item : items) {
+            index.refresh(item);
+        }
+        MatchingService matchingService = Stubs.construct(MatchingService.class, itemRepository,
+                itemMatchRepository, store);
+        scoringPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        itemService = Stubs.construct(ItemService.class, itemRepository, itemMatchRepository, matchingService,
+                index, store, scoringPool);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scoringPool.shutdown();
+    }
+
+    private Item nextProbe() {
+        cursor = (cursor + 7919) % items.size();
+        return items.get(cursor);
+    }
+
+    /**
+     * 权重规则：相反类型、相同总权重、相同地点的候选扫描与打分
+     */
+    @Benchmark
+    public void weightRuleScan(Blackhole blackhole) {
+        Item probe = nextProbe();
+        Item.PostType opposite = probe.isLost() ? Item.PostType.FOUND : Item.PostType.LOST;
+        store.scanWeightMatches(opposite, probe.getTotalWeight(), probe.getLocation().ordinal(),
+                probe.getDetailedLocation().ordinal(), probe.getCategory().ordinal(),
+                (id, score) -> blackhole.consume(score));
+    }
+
+    /**
+     * 单个物品的候选建议（含文本打分、Top-K 与结果加载）
+     */
+    @Benchmark
+    public List<MatchCandidate> suggestMatchesForItem() {
+        return itemService.suggestMatchesForItem(nextProbe(), 30, 20);
+    }
+}
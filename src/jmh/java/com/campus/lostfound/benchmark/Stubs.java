@@ -0,0 +1,100 @@
+package com.campus.lostfound.benchmark;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 脱离 Spring 容器构造服务：按参数类型注入已知对象，其余接口用空实现代理
+ */
+final class Stubs {
+
+    private Stubs() {
+    }
+
+    /**
+     * 调用类的唯一构造方法，known 中按类型匹配的对象优先，接口参数默认为空实现
+     */
+    static <T> T construct(Class<T> type, Object... known) {
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructors()[0];
+            Class<?>[] parameterTypes = constructor.getParameterTypes();
+            Object[] args = new Object[parameterTypes.length];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                args[i] = find(parameterTypes[i], known);
+                if (args[i] == null && parameterTypes[i].isInterface()) {
+                    args[i] = empty(parameterTypes[i]);
+                }
+            }
+            constructor.setAccessible(true);
+            return type.cast(constructor.newInstance(args));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("无法构造 " + type.getName(), e);
+        }
+    }
+
+    /**
+     * 接口的空实现：集合返回空、Optional 返回 empty、基本类型返回默认值
+     */
+    static <T> T empty(Class<T> type) {
+        return answering(type, Map.of());
+    }
+
+    /**
+     * 按方法名指定返回值的接口实现，未指定的方法同 empty
+     */
+    static <T> T answering(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (p, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+            switch (method.getName()) {
+                case "toString":
+                    return type.getSimpleName() + "Stub";
+                case "hashCode":
+                    return System.identityHashCode(p);
+                case "equals":
+                    return p == args[0];
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        });
+        return type.cast(proxy);
+    }
+
+    private static Object find(Class<?> type, Object[] known) {
+        for (Object candidate : known) {
+            if (type.isInstance(candidate)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (List.class.isAssignableFrom(type) || Iterable.class == type) {
+            return Collections.emptyList();
+        }
+        if (Optional.class == type) {
+            return Optional.empty();
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == double.class) {
+            return 0.0;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,54 @@
+package com.campus.lostfound.benchmark;
+
+import com.campus.lostfound.entity.DetailedLocation;
+import com.campus.lostfound.entity.Item;
+import com.campus.lostfound.entity.Location;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 基准测试用的合成物品数据
+ * 固定随机种子，同一规模每次生成的数据相同
+ */
+final class SyntheticItems {
+
+    private static final String[] NAMES = {"校园卡", "黑色手机", "蓝牙耳机", "棕色钱包", "宿舍钥匙", "雨伞",
+            "高数教科书", "双肩书包", "保温杯", "充电宝", "眼镜", "笔记本电脑"};
+    private static final String[] COLORS = {"黑色", "白色", "蓝色", "红色", "灰色"};
+    private static final String[] PLACES = {"图书馆二楼", "第一食堂门口", "教学楼A走廊", "操场看台", "快递柜旁"};
+
+    private SyntheticItems() {
+    }
+
+    static List<Item> generate(int size, long seed) {
+        Random random = new Random(seed);
+        Item.ItemCategory[] categories = Item.ItemCategory.values();
+        Location[] locations = Location.values();
+        DetailedLocation[] detailedLocations = DetailedLocation.values();
+        LocalDateTime now = LocalDateTime.now();
+        List<Item> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            boolean lost = random.nextBoolean();
+            String name = NAMES[random.nextInt(NAMES.length)];
+            Item item = new Item();
+            item.setId((long) i + 1);
+            item.setPostType(lost ? Item.PostType.LOST : Item.PostType.FOUND);
+            item.setCategory(categories[random.nextInt(categories.length)]);
+            item.setLocation(locations[random.nextInt(locations.length)]);
+            item.setDetailedLocation(detailedLocations[random.nextInt(detailedLocations.length)]);
+            item.setTitle((lost ? "丢失" : "捡到") + name);
+            item.setDescription("在" + PLACES[random.nextInt(PLACES.length)] + (lost ? "丢失" : "捡到")
+                    + "一个" + COLORS[random.nextInt(COLORS.length)] + name + "，编号 " + i);
+            item.setCreatedAt(now.minusMinutes(random.nextInt(30 * 24 * 60)));
+            item.setLostFoundTime(item.getCreatedAt().minusHours(random.nextInt(72)));
+            item.setStatus(Item.ItemStatus.PENDING_CLAIM);
+            item.setApproved(true);
+            item.calculateTotalWeight();
+            items.add(item);
+        }
+        return items;
+    }
+}
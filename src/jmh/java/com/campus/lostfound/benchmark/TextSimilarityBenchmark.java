@@ -0,0 +1,71 @@
+package com.campus.lostfound.benchmark;
+
+import com.campus.lostfound.entity.Item;
+import com.campus.lostfound.matching.IndexedItem;
+import com.campus.lostfound.matching.TextTokenizer;
+import com.campus.lostfound.matching.TokenDictionary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 文本相似度基准（原 simpleTextSimilarity 已由分词 + 词元ID Jaccard 取代）
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextSimilarityBenchmark {
+
+    private static final int SAMPLES = 1024;
+
+    private String[] texts;
+    private int[][] tokenIds;
+    private TokenDictionary dictionary;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        List<Item> items = SyntheticItems.generate(SAMPLES, 7L);
+        dictionary = new TokenDictionary();
+        texts = new String[SAMPLES];
+        tokenIds = new int[SAMPLES][];
+        for (int i = 0; i < SAMPLES; i++) {
+            texts[i] = IndexedItem.textOf(items.get(i));
+            tokenIds[i] = dictionary.tokenIds(texts[i]);
+        }
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (SAMPLES - 1);
+        return cursor;
+    }
+
+    @Benchmark
+    public List<String> tokenize() {
+        return TextTokenizer.tokenize(texts[next()]);
+    }
+
+    @Benchmark
+    public int[] tokenIds() {
+        return dictionary.tokenIds(texts[next()]);
+    }
+
+    @Benchmark
+    public double jaccard() {
+        int i = next();
+        return TokenDictionary.jaccard(tokenIds[i], tokenIds[(i + 1) & (SAMPLES - 1)]);
+    }
+}
@@ -319,7 +319,7 @@ public class DataInitializer implements CommandLineRunner {
                 Item foundItem = foundItems.get(i);
                 
                 // 检查是否已经匹配过
-                if (!itemMatchRepository.existsMatchBetweenItems(lostItem, foundItem)) {
+                if (itemMatchRepository.findMatchBetweenItems(lostItem, foundItem).isEmpty()) {
                     ItemMatch match = new ItemMatch();
                     match.setLostItem(lostItem);
                     match.setFoundItem(foundItem);
@@ -340,7 +340,7 @@ public class DataInitializer implements CommandLineRunner {
                     Item lostItem = lostItems.get(i + 3);
                     Item foundItem = foundItems.get(i + 3);
                     
-                    if (!itemMatchRepository.existsMatchBetweenItems(lostItem, foundItem)) {
+                    if (itemMatchRepository.findMatchBetweenItems(lostItem, foundItem).isEmpty()) {
                         ItemMatch match = new ItemMatch();
                         match.setLostItem(lostItem);
                         match.setFoundItem(foundItem);
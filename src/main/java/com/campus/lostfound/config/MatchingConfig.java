@@ -0,0 +1,23 @@
+package com.campus.lostfound.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 匹配相关的线程池配置
+ */
+@Configuration
+public class MatchingConfig {
+
+    /**
+     * 候选匹配批量打分专用的 ForkJoin 线程池，与公共池隔离
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool matchScoringPool(@Value("${app.matching.scoring-parallelism:0}") int parallelism) {
+        int size = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return new ForkJoinPool(size);
+    }
+}
@@ -1,5 +1,6 @@
 package com.campus.lostfound.config;
 
+import com.campus.lostfound.observer.ItemMatchEventBus;
 import com.campus.lostfound.observer.NotificationObserver;
 import com.campus.lostfound.service.MatchingService;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +20,7 @@ public class ObserverConfig {
     
     private final MatchingService matchingService;
     private final NotificationObserver notificationObserver;
+    private final ItemMatchEventBus itemMatchEventBus;
     
     /**
      * 应用启动后自动注册观察者
@@ -34,12 +36,10 @@ public class ObserverConfig {
     }
     
     /**
-     * 获取当前观察者数量（用于测试）
+     * 获取当前观察者数量
      */
     private int getObserverCount() {
-        // 这里可以通过反射或其他方式获取观察者数量
-        // 为了简化，这里返回1（只有NotificationObserver）
-        return 1;
+        return itemMatchEventBus.observerCount();
     }
 }
 
@@ -1,5 +1,6 @@
 package com.campus.lostfound.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -38,12 +39,15 @@ public class SecurityConfig {
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
             .authorizeHttpRequests(authz -> authz
+                // 推送流等异步请求的后续派发沿用首次请求的鉴权结果
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 // 公开访问的页面
                 .requestMatchers(new AntPathRequestMatcher("/demo")).permitAll()
                 .requestMatchers(new AntPathRequestMatcher("/test-login")).permitAll()
                 .requestMatchers(new AntPathRequestMatcher("/auth/login")).permitAll()
                 .requestMatchers(new AntPathRequestMatcher("/auth/register")).permitAll()
                 .requestMatchers(new AntPathRequestMatcher("/search")).permitAll()
+                .requestMatchers(new AntPathRequestMatcher("/search/suggest")).permitAll()
                 .requestMatchers(new AntPathRequestMatcher("/items/*")).permitAll()
                 .requestMatchers(new AntPathRequestMatcher("/about")).permitAll()
                 .requestMatchers(new AntPathRequestMatcher("/help")).permitAll()
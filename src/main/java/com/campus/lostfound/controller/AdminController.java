@@ -27,6 +27,15 @@ public class AdminController {
     private final com.campus.lostfound.service.ReportService reportService;
     private final com.campus.lostfound.service.UserService userService;
     private final com.campus.lostfound.repository.UserRepository userRepository;
+    private final com.campus.lostfound.matching.MatchingQueue matchingQueue;
+    private final com.campus.lostfound.matching.BulkRematchService bulkRematchService;
+    private final com.campus.lostfound.observer.ItemMatchEventBus itemMatchEventBus;
+    private final com.campus.lostfound.outbox.OutboxRelay outboxRelay;
+    private final com.campus.lostfound.search.ItemSearchIndex itemSearchIndex;
+    private final com.campus.lostfound.search.EnumBitmapIndex enumBitmapIndex;
+    private final com.campus.lostfound.service.ItemQueryService itemQueryService;
+    private final com.campus.lostfound.stats.StatCounterService statCounterService;
+    private final com.campus.lostfound.push.NotificationStreamRegistry notificationStreamRegistry;
 
     @GetMapping
     public String dashboard(@AuthenticationPrincipal User admin, Model model) {
@@ -48,6 +57,105 @@ public class AdminController {
         return "redirect:/admin";
     }
 
+    /** 异步匹配队列运行指标 */
+    @GetMapping("/matching/stats")
+    @org.springframework.web.bind.annotation.ResponseBody
+    public java.util.Map<String, Object> matchingStats() {
+        return matchingQueue.stats();
+    }
+
+    /** 匹配事件各观察者的投递指标 */
+    @GetMapping("/events/stats")
+    @org.springframework.web.bind.annotation.ResponseBody
+    public List<java.util.Map<String, Object>> eventStats() {
+        return itemMatchEventBus.stats();
+    }
+
+    /** 发件箱积压与投递统计 */
+    @GetMapping("/outbox/stats")
+    @org.springframework.web.bind.annotation.ResponseBody
+    public java.util.Map<String, Object> outboxStats() {
+        return outboxRelay.stats();
+    }
+
+    /** 重放投递失败的发件箱消息；不指定 id 时重放全部 */
+    @PostMapping("/outbox/replay")
+    @org.springframework.web.bind.annotation.ResponseBody
+    public java.util.Map<String, Object> replayOutbox(@RequestParam(required = false) Long id) {
+        return java.util.Map.of("replayed", outboxRelay.replayFailed(id));
+    }
+
+    /** 全文索引状态与最近一次一致性检查结果 */
+    @GetMapping("/search/index")
+    @org.springframework.web.bind.annotation.ResponseBody
+    public java.util.Map<String, Object> searchIndexStatus() {
+        return itemSearchIndex.status();
+    }
+
+    /** 后台全量重建全文索引，完成后原子切换 */
+    @PostMapping("/search/index/rebuild")
+    @org.springframework.web.bind.annotation.ResponseBody
+    public java.util.Map<String, Object> rebuildSearchIndex() {
+        return java.util.Map.of("started", itemSearchIndex.rebuildAsync());
+    }
+
+    /** 立即检查全文索引与数据库的差异，repair=true 时就地修复 */
+    @PostMapping("/search/index/check")
+    @org.springframework.web.bind.annotation.ResponseBody
+    public java.util.Map<String, Object> checkSearchIndex(@RequestParam(defaultValue = "false") boolean repair) {
+        return itemSearchIndex.checkDrift(repair);
+    }
+
+    /** 统计计数器当前值及未落库增量 */
+    @GetMapping("/stats/counters")
+    @org.springframework.web.bind.annotation.ResponseBody
+    public java.util.Map<String, Object> statCounters() {
+        return statCounterService.stats();
+    }
+
+    /** 立即按源表校准统计计数器，返回修正的偏差 */
+    @PostMapping("/stats/counters/reconcile")
+    @org.springframework.web.bind.annotation.ResponseBody
+    public java.util.Map<com.campus.lostfound.stats.StatCounterService.Counter, Long> reconcileStatCounters() {
+        return statCounterService.reconcile();
+    }
+
+    /** 通知推送在线连接与推送指标 */
+    @GetMapping("/notifications/stream/stats")
+    @org.springframework.web.bind.annotation.ResponseBody
+    public java.util.Map<String, Object> notificationStreamStats() {
+        return notificationStreamRegistry.stats();
+    }
+
+    /** 全量重新匹配进度 */
+    @GetMapping("/matching/rematch")
+    @org.springframework.web.bind.annotation.ResponseBody
+    public java.util.Map<String, Object> rematchStatus() {
+        return bulkRematchService.status();
+    }
+
+    /** 启动全量重新匹配，resume 为 true 时从上次未完成任务的检查点继续 */
+    @PostMapping("/matching/rematch")
+    @org.springframework.web.bind.annotation.ResponseBody
+    public java.util.Map<String, Object> startRematch(@RequestParam(defaultValue = "true") boolean resume) {
+        try {
+            bulkRematchService.start(resume);
+        } catch (RuntimeException e) {
+            java.util.Map<String, Object> status = bulkRematchService.status();
+            status.put("error", e.getMessage());
+            return status;
+        }
+        return bulkRematchService.status();
+    }
+
+    /** 取消正在运行的全量重新匹配 */
+    @PostMapping("/matching/rematch/cancel")
+    @org.springframework.web.bind.annotation.ResponseBody
+    public java.util.Map<String, Object> cancelRematch() {
+        bulkRematchService.cancel();
+        return bulkRematchService.status();
+    }
+
     /** 清理所有物品（测试数据） */
     @PostMapping("/cleanup-items")
     public String cleanupItems(@AuthenticationPrincipal User admin) {
@@ -150,46 +258,57 @@ public class AdminController {
                        @RequestParam(value = "type", defaultValue = "ALL") String type,
                        @RequestParam(value = "category", defaultValue = "ALL") String category,
                        @RequestParam(value = "keyword", defaultValue = "") String keyword,
+                       @RequestParam(value = "sort", defaultValue = "NEWEST") com.campus.lostfound.service.ItemQueryService.SortOption sort,
+                       @RequestParam(value = "page", defaultValue = "0") int page,
+                       @RequestParam(value = "size", defaultValue = "20") int size,
                        Model model) {
-        List<Item> allItems = itemService.getAllApprovedItems();
-        
-        // 筛选失物/拾物
+        com.campus.lostfound.search.ItemEnumFilter filter = new com.campus.lostfound.search.ItemEnumFilter();
         if (!"ALL".equals(type)) {
-            Item.PostType postType = Item.PostType.valueOf(type);
-            allItems = allItems.stream()
-                    .filter(item -> item.getPostType() == postType)
-                    .collect(java.util.stream.Collectors.toList());
+            filter.postType(Item.PostType.valueOf(type));
         }
-        
-        // 筛选分类
         if (!"ALL".equals(category)) {
-            Item.ItemCategory itemCategory = Item.ItemCategory.valueOf(category);
-            allItems = allItems.stream()
-                    .filter(item -> item.getCategory() == itemCategory)
-                    .collect(java.util.stream.Collectors.toList());
+            filter.category(Item.ItemCategory.valueOf(category));
         }
+        // 筛选、排序、分页都在数据库端完成，只取列表投影
+        org.springframework.data.jpa.domain.Specification<Item> spec = com.campus.lostfound.repository.ItemSpecifications.approved()
+                .and(com.campus.lostfound.repository.ItemSpecifications.matches(filter))
+                .and(com.campus.lostfound.repository.ItemSpecifications.keyword(keyword));
+        // 无关键词时总数与分组统计取自位图索引；有关键词时不做全表计数，只判断是否还有下一页
+        boolean exactTotal = keyword == null || keyword.isBlank();
+        com.campus.lostfound.dto.ItemCounts counts = exactTotal ? enumBitmapIndex.counts(filter) : null;
+        org.springframework.data.domain.Pageable pageable = org.springframework.data.domain.PageRequest.of(
+                Math.max(0, page), Math.max(1, Math.min(size, 100)), sort.getSort());
+        org.springframework.data.domain.Page<com.campus.lostfound.dto.ItemSummary> itemPage =
+                itemQueryService.findSummaries(spec, pageable, exactTotal ? counts.getTotal() : null);
         
-        // 搜索关键词
-        if (!keyword.isEmpty()) {
-            String lowerKeyword = keyword.toLowerCase();
-            allItems = allItems.stream()
-                    .filter(item -> 
-                        item.getTitle().toLowerCase().contains(lowerKeyword) ||
-                        item.getDescription().toLowerCase().contains(lowerKeyword) ||
-                        item.getLocation().getDescription().toLowerCase().contains(lowerKeyword) ||
-                        item.getDetailedLocation().getDescription().toLowerCase().contains(lowerKeyword)
-                    )
-                    .collect(java.util.stream.Collectors.toList());
-        }
+        // 各类型、分类的物品数（忽略该维度自身的筛选）
+        java.util.Map<com.campus.lostfound.search.EnumBitmapIndex.Dimension, int[]> facets = enumBitmapIndex.facets(filter);
+        model.addAttribute("typeCounts", facetMap(Item.PostType.values(),
+                facets.get(com.campus.lostfound.search.EnumBitmapIndex.Dimension.POST_TYPE)));
+        model.addAttribute("categoryCounts", facetMap(Item.ItemCategory.values(),
+                facets.get(com.campus.lostfound.search.EnumBitmapIndex.Dimension.CATEGORY)));
         
         model.addAttribute("user", admin);
-        model.addAttribute("items", allItems);
+        model.addAttribute("items", itemPage.getContent());
+        model.addAttribute("itemPage", itemPage);
+        model.addAttribute("counts", counts);
+        model.addAttribute("exactTotal", exactTotal);
+        model.addAttribute("sortOptions", com.campus.lostfound.service.ItemQueryService.SortOption.values());
+        model.addAttribute("selectedSort", sort);
         model.addAttribute("selectedType", type);
         model.addAttribute("selectedCategory", category);
         model.addAttribute("keyword", keyword);
         return "admin-items";
     }
 
+    private static java.util.Map<String, Integer> facetMap(Enum<?>[] values, int[] counts) {
+        java.util.Map<String, Integer> map = new java.util.LinkedHashMap<>();
+        for (Enum<?> value : values) {
+            map.put(value.name(), counts[value.ordinal()]);
+        }
+        return map;
+    }
+
     @PostMapping("/items/{id}/delete")
     public String deleteItem(@PathVariable Long id, @AuthenticationPrincipal User admin) {
         if (admin == null || admin.getRole() != User.UserRole.ADMIN) {
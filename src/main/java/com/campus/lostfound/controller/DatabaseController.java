@@ -6,6 +6,7 @@ import com.campus.lostfound.entity.User;
 import com.campus.lostfound.repository.ItemMatchRepository;
 import com.campus.lostfound.repository.ItemRepository;
 import com.campus.lostfound.repository.UserRepository;
+import com.campus.lostfound.stats.StatCounterService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -28,6 +29,7 @@ public class DatabaseController {
     private final UserRepository userRepository;
     private final ItemRepository itemRepository;
     private final ItemMatchRepository itemMatchRepository;
+    private final StatCounterService statCounterService;
 
     /**
      * 查看数据库统计信息
@@ -45,11 +47,11 @@ public class DatabaseController {
             long normalUserCount = userCount - adminCount;
 
             // 物品统计
-            long itemCount = itemRepository.count();
-            long approvedItemCount = itemRepository.countApprovedItems();
-            long completedItemCount = itemRepository.countCompletedItems();
-            long lostItemCount = itemRepository.countLostItems();
-            long foundItemCount = itemRepository.countFoundItems();
+            long itemCount = statCounterService.get(StatCounterService.Counter.ITEMS_TOTAL);
+            long approvedItemCount = statCounterService.get(StatCounterService.Counter.ITEMS_APPROVED);
+            long completedItemCount = statCounterService.get(StatCounterService.Counter.ITEMS_COMPLETED);
+            long lostItemCount = statCounterService.get(StatCounterService.Counter.ITEMS_LOST);
+            long foundItemCount = statCounterService.get(StatCounterService.Counter.ITEMS_FOUND);
 
             // 匹配统计
             long matchCount = itemMatchRepository.count();
@@ -1,9 +1,19 @@
 package com.campus.lostfound.controller;
 
+import com.campus.lostfound.dto.CursorPage;
+import com.campus.lostfound.dto.HomeSnapshot;
+import com.campus.lostfound.dto.ItemCard;
+import com.campus.lostfound.entity.DetailedLocation;
 import com.campus.lostfound.entity.Item;
+import com.campus.lostfound.entity.Location;
 import com.campus.lostfound.entity.User;
+import com.campus.lostfound.search.EnumBitmapIndex;
+import com.campus.lostfound.search.ItemEnumFilter;
+import com.campus.lostfound.search.SearchResult;
+import com.campus.lostfound.search.Suggestion;
+import com.campus.lostfound.search.SuggestionIndex;
+import com.campus.lostfound.service.HomeSnapshotService;
 import com.campus.lostfound.service.ItemService;
-import com.campus.lostfound.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -14,6 +24,9 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.util.List;
 
 /**
  * 首页控制器
@@ -24,49 +37,50 @@ import org.springframework.web.bind.annotation.RequestParam;
 public class HomeController {
     
     private final ItemService itemService;
-    private final NotificationService notificationService;
+    private final SuggestionIndex suggestionIndex;
+    private final HomeSnapshotService homeSnapshotService;
     
     /**
      * 首页
      */
     @GetMapping("/")
     public String home(@AuthenticationPrincipal User user, 
-                      @RequestParam(defaultValue = "0") int page,
+                      @RequestParam(required = false) String cursor,
                       @RequestParam(defaultValue = "10") int size,
                       Model model) {
         
-        Pageable pageable = PageRequest.of(page, size);
-        
-        // 获取最新发布的物品
-        Page<Item> recentItems = itemService.getRecentItems(pageable);
-        
-        // 获取热门物品
-        Page<Item> popularItems = itemService.getPopularItems(PageRequest.of(0, 5));
-        
-        // 获取统计数据
-        long totalItems = itemService.countApprovedItems();
-        long lostItems = itemService.countLostItems();
-        long foundItems = itemService.countFoundItems();
-        long completedItems = itemService.countCompletedItems();
-        
-        // 获取用户的未读通知数量
-        int unreadCount = 0;
-        if (user != null) {
-            unreadCount = notificationService.getUnreadCount(user);
+        // 首页快照：热门物品、统计数字和最新发布第一页都从内存读取
+        HomeSnapshot snapshot = homeSnapshotService.get();
+        CursorPage<ItemCard> recentItems = snapshot.getRecentItems();
+        if (cursor != null || size != HomeSnapshotService.RECENT_PAGE_SIZE) {
+            // 翻页时按游标查询
+            CursorPage<Item> page = itemService.getRecentItems(cursor, size);
+            recentItems = new CursorPage<>(page.getContent().stream().map(ItemCard::of).toList(),
+                    page.getPreviousCursor(), page.getNextCursor(), page.getApproximateTotal());
         }
         
+        // 未读通知数量由 ModelAttributeConfig 统一提供，匿名用户不查询数据库
         model.addAttribute("user", user);
         model.addAttribute("recentItems", recentItems);
-        model.addAttribute("popularItems", popularItems);
-        model.addAttribute("totalItems", totalItems);
-        model.addAttribute("lostItems", lostItems);
-        model.addAttribute("foundItems", foundItems);
-        model.addAttribute("completedItems", completedItems);
-        model.addAttribute("unreadCount", unreadCount);
+        model.addAttribute("popularItems", snapshot.getPopularItems());
+        model.addAttribute("totalItems", snapshot.getTotalItems());
+        model.addAttribute("lostItems", snapshot.getLostItems());
+        model.addAttribute("foundItems", snapshot.getFoundItems());
+        model.addAttribute("completedItems", snapshot.getCompletedItems());
         
         return "home";
     }
     
+    /**
+     * 搜索联想：由内存前缀树按频次返回候选词
+     */
+    @GetMapping("/search/suggest")
+    @ResponseBody
+    public List<Suggestion> suggest(@RequestParam(value = "q", defaultValue = "") String prefix,
+                                    @RequestParam(defaultValue = "8") int limit) {
+        return suggestionIndex.suggest(prefix, limit);
+    }
+    
     /**
      * 搜索页面
      */
@@ -74,33 +88,44 @@ public class HomeController {
     public String search(@RequestParam(required = false) String keyword,
                         @RequestParam(required = false) Item.PostType postType,
                         @RequestParam(required = false) Item.ItemCategory category,
+                        @RequestParam(required = false) Location location,
+                        @RequestParam(required = false) DetailedLocation detailedLocation,
                         @RequestParam(defaultValue = "0") int page,
+                        @RequestParam(required = false) String cursor,
                         @RequestParam(defaultValue = "10") int size,
                         @AuthenticationPrincipal User user,
                         Model model) {
         
         try {
-            Pageable pageable = PageRequest.of(page, size);
-            Page<Item> items;
-            
             if (keyword != null && !keyword.trim().isEmpty()) {
-                if (postType != null || category != null) {
-                    items = itemService.advancedSearch(keyword.trim(), postType, category, pageable);
-                } else {
-                    items = itemService.searchItems(keyword.trim(), pageable);
-                }
+                Pageable pageable = PageRequest.of(page, size);
+                ItemEnumFilter filter = new ItemEnumFilter()
+                        .postType(postType)
+                        .category(category)
+                        .location(location)
+                        .detailedLocation(detailedLocation);
+                SearchResult<Item> result = itemService.searchItems(keyword.trim(), filter, pageable);
+                Page<Item> items = result.getPage();
+                model.addAttribute("items", items);
+                model.addAttribute("totalPages", items.getTotalPages());
+                // 分面计数随检索一并得出，供页面渲染下钻筛选
+                model.addAttribute("typeFacets", result.buckets(EnumBitmapIndex.Dimension.POST_TYPE));
+                model.addAttribute("categoryFacets", result.buckets(EnumBitmapIndex.Dimension.CATEGORY));
+                model.addAttribute("locationFacets", result.buckets(EnumBitmapIndex.Dimension.LOCATION));
+                model.addAttribute("detailedLocationFacets", result.buckets(EnumBitmapIndex.Dimension.DETAILED_LOCATION));
             } else {
-                items = itemService.getApprovedItems(pageable);
+                // 无关键词时按发布时间浏览，使用游标分页
+                model.addAttribute("feed", itemService.getRecentItems(cursor, size));
             }
             
             model.addAttribute("user", user);
-            model.addAttribute("items", items);
             model.addAttribute("keyword", keyword);
             model.addAttribute("postType", postType);
             model.addAttribute("category", category);
+            model.addAttribute("location", location);
+            model.addAttribute("detailedLocation", detailedLocation);
             model.addAttribute("categories", Item.ItemCategory.values());
             model.addAttribute("currentPage", page);
-            model.addAttribute("totalPages", items.getTotalPages());
             
             return "search";
         } catch (Exception e) {
@@ -2,24 +2,30 @@ package com.campus.lostfound.controller;
 
 import com.campus.lostfound.entity.Notification;
 import com.campus.lostfound.entity.User;
+import com.campus.lostfound.push.NotificationStreamRegistry;
 import com.campus.lostfound.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Controller
 @RequiredArgsConstructor
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationStreamRegistry notificationStreamRegistry;
 
     @GetMapping("/notifications")
     public String notifications(@AuthenticationPrincipal User user,
@@ -36,6 +42,17 @@ public class NotificationController {
         return "notifications";
     }
 
+    /** 新通知与未读数的推送流（Server-Sent Events），浏览器断线重连时带回 Last-Event-ID 补发 */
+    @GetMapping(value = "/notifications/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public SseEmitter stream(@AuthenticationPrincipal User user,
+                             @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        if (user == null) {
+            throw new RuntimeException("请先登录");
+        }
+        return notificationStreamRegistry.subscribe(user, lastEventId);
+    }
+
     @GetMapping("/notifications/mark-read")
     public String markRead(@RequestParam Long id,
                            @AuthenticationPrincipal User user) {
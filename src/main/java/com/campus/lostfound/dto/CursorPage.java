@@ -0,0 +1,31 @@
+package com.campus.lostfound.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 键集分页结果：当前页内容、前后页游标和近似总数（未知时为 -1）
+ */
+@Data
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> content;
+    private String previousCursor;
+    private String nextCursor;
+    private long approximateTotal;
+
+    public boolean isEmpty() {
+        return content.isEmpty();
+    }
+
+    public boolean hasPrevious() {
+        return previousCursor != null;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
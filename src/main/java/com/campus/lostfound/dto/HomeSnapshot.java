@@ -0,0 +1,22 @@
+package com.campus.lostfound.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 首页快照：最新发布第一页、热门物品与统计数字，构建后不再修改
+ */
+@Getter
+@AllArgsConstructor
+public class HomeSnapshot {
+    private final CursorPage<ItemCard> recentItems;
+    private final List<ItemCard> popularItems;
+    private final long totalItems;
+    private final long lostItems;
+    private final long foundItems;
+    private final long completedItems;
+    private final LocalDateTime builtAt;
+}
@@ -0,0 +1,27 @@
+package com.campus.lostfound.dto;
+
+import com.campus.lostfound.entity.Item;
+import com.campus.lostfound.entity.Location;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 首页物品卡片：与持久化上下文无关的只读副本，可长期缓存
+ */
+@Data
+@AllArgsConstructor
+public class ItemCard {
+    private Long id;
+    private String title;
+    private String description;
+    private Item.PostType postType;
+    private Location location;
+    private LocalDateTime createdAt;
+
+    public static ItemCard of(Item item) {
+        return new ItemCard(item.getId(), item.getTitle(), item.getDescription(), item.getPostType(),
+                item.getLocation(), item.getCreatedAt());
+    }
+}
@@ -0,0 +1,31 @@
+package com.campus.lostfound.dto;
+
+import com.campus.lostfound.entity.Item;
+import lombok.Data;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 按类型、状态分组的物品数量
+ */
+@Data
+public class ItemCounts {
+    private long total;
+    private Map<Item.PostType, Long> byPostType = new EnumMap<>(Item.PostType.class);
+    private Map<Item.ItemStatus, Long> byStatus = new EnumMap<>(Item.ItemStatus.class);
+
+    public void add(Item.PostType postType, Item.ItemStatus status, long count) {
+        total += count;
+        byPostType.merge(postType, count, Long::sum);
+        byStatus.merge(status, count, Long::sum);
+    }
+
+    public long getPostTypeCount(Item.PostType postType) {
+        return byPostType.getOrDefault(postType, 0L);
+    }
+
+    public long getStatusCount(Item.ItemStatus status) {
+        return byStatus.getOrDefault(status, 0L);
+    }
+}
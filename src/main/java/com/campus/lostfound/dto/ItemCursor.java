@@ -0,0 +1,47 @@
+package com.campus.lostfound.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 物品列表的键集游标：以（创建时间, ID）定位，按 URL 安全的 Base64 编码成不透明字符串
+ * forward 为 true 表示取该位置之后（更早发布）的一页，否则取之前（更新发布）的一页
+ */
+@Data
+@AllArgsConstructor
+public class ItemCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private LocalDateTime createdAt;
+    private Long id;
+    private boolean forward;
+
+    public String encode() {
+        String raw = (forward ? "n" : "p") + SEPARATOR + createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 解析游标；为空或格式不正确时返回 null（从第一页开始）
+     */
+    public static ItemCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length != 3 || !("n".equals(parts[0]) || "p".equals(parts[0]))) {
+                return null;
+            }
+            return new ItemCursor(LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]), "n".equals(parts[0]));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
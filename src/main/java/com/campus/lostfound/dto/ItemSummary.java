@@ -0,0 +1,43 @@
+package com.campus.lostfound.dto;
+
+import com.campus.lostfound.entity.DetailedLocation;
+import com.campus.lostfound.entity.Item;
+import com.campus.lostfound.entity.Location;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 物品列表投影：只取列表展示需要的列，不加载实体和关联集合
+ */
+@Data
+@NoArgsConstructor
+public class ItemSummary {
+    private Long id;
+    private String title;
+    private Item.ItemCategory category;
+    private Item.PostType postType;
+    private Item.ItemStatus status;
+    private Location location;
+    private DetailedLocation detailedLocation;
+    private LocalDateTime createdAt;
+    private String ownerDisplayName;
+    private String ownerStudentId;
+    private String coverImage; // 封面图片文件名，无图片时为 null
+
+    public ItemSummary(Long id, String title, Item.ItemCategory category, Item.PostType postType,
+                       Item.ItemStatus status, Location location, DetailedLocation detailedLocation,
+                       LocalDateTime createdAt, String ownerDisplayName, String ownerStudentId) {
+        this.id = id;
+        this.title = title;
+        this.category = category;
+        this.postType = postType;
+        this.status = status;
+        this.location = location;
+        this.detailedLocation = detailedLocation;
+        this.createdAt = createdAt;
+        this.ownerDisplayName = ownerDisplayName;
+        this.ownerStudentId = ownerStudentId;
+    }
+}
@@ -0,0 +1,25 @@
+package com.campus.lostfound.dto;
+
+import com.campus.lostfound.entity.DetailedLocation;
+import com.campus.lostfound.entity.Item;
+import com.campus.lostfound.entity.Location;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 重算物品权重所需的字段投影
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ItemWeightInput {
+    private Long id;
+    private Location location;
+    private DetailedLocation detailedLocation;
+    private Item.ItemCategory category;
+    private LocalDateTime createdAt;
+    private Integer totalWeight;
+}
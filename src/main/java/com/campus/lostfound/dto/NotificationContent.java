@@ -0,0 +1,65 @@
+package com.campus.lostfound.dto;
+
+import com.campus.lostfound.entity.Item;
+import com.campus.lostfound.entity.Notification;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 通知内容：类型、标题、正文与关联物品
+ * 直接发送与经发件箱发送共用同一套文案
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class NotificationContent {
+    private final Notification.NotificationType type;
+    private final String title;
+    private final String content;
+    private final Item relatedItem;
+
+    public static NotificationContent itemApproved(Item item) {
+        return new NotificationContent(Notification.NotificationType.ITEM_APPROVED, "物品审核通过",
+                "您的物品《" + item.getTitle() + "》已通过审核，现在可以在搜索中看到。", item);
+    }
+
+    public static NotificationContent itemRejected(Item item, String reason) {
+        return new NotificationContent(Notification.NotificationType.ITEM_REJECTED, "物品审核拒绝",
+                "您的物品《" + item.getTitle() + "》未通过审核。原因：" + reason, item);
+    }
+
+    public static NotificationContent claimApproved(Item item) {
+        return new NotificationContent(Notification.NotificationType.CLAIM_APPROVED, "认领审核通过",
+                "您对《" + item.getTitle() + "》的认领申请已通过审核。", item);
+    }
+
+    public static NotificationContent claimRejected(Item item, String reason) {
+        return new NotificationContent(Notification.NotificationType.CLAIM_REJECTED, "认领审核拒绝",
+                "您对《" + item.getTitle() + "》的认领申请未通过审核。原因：" + reason, item);
+    }
+
+    public static NotificationContent systemMessage(String title, String content) {
+        return new NotificationContent(Notification.NotificationType.SYSTEM_NOTIFICATION, title, content, null);
+    }
+
+    /** 认领经管理员审核完成，通知发布者 */
+    public static NotificationContent claimCompleted(Item item) {
+        return systemMessage("认领已完成", "您的发布《" + item.getTitle() + "》已通过管理员审核并完成。");
+    }
+
+    /** 管理员驳回认领，通知发布者 */
+    public static NotificationContent claimRejectedByAdmin(String note) {
+        return systemMessage("管理员驳回认领", "管理员驳回了该条认领申请：" + (note == null ? "" : note));
+    }
+
+    /** 举报被受理，通知举报人 */
+    public static NotificationContent reportAccepted(String itemTitle) {
+        return systemMessage("举报已受理", "您对《" + itemTitle + "》的举报被受理，平台已处理该内容。");
+    }
+
+    /** 物品因举报被删除，通知发布者 */
+    public static NotificationContent itemRemovedByReport(String itemTitle, String reason) {
+        return systemMessage("内容被删除", "您的发布《" + itemTitle + "》因被举报并经审核确认，已被平台删除。"
+                + (reason == null ? "" : " 原因：" + reason));
+    }
+}
@@ -0,0 +1,30 @@
+package com.campus.lostfound.dto;
+
+import com.campus.lostfound.entity.Notification;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 推送给浏览器的通知：与持久化上下文无关的只读副本
+ */
+@Data
+@AllArgsConstructor
+public class NotificationMessage {
+    private Long id;
+    private Notification.NotificationType type;
+    private String typeDescription;
+    private String title;
+    private String content;
+    private Long relatedItemId;
+    private LocalDateTime createdAt;
+
+    public static NotificationMessage of(Notification notification) {
+        Notification.NotificationType type = notification.getType();
+        return new NotificationMessage(notification.getId(), type, type != null ? type.getDescription() : null,
+                notification.getTitle(), notification.getContent(),
+                notification.getRelatedItem() != null ? notification.getRelatedItem().getId() : null,
+                notification.getCreatedAt());
+    }
+}
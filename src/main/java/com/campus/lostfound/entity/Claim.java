@@ -1,11 +1,13 @@
 package com.campus.lostfound.entity;
 
+import com.campus.lostfound.stats.StatCounterEntityListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 
@@ -13,6 +15,7 @@ import java.time.LocalDateTime;
  * 认领实体类
  */
 @Entity
+@EntityListeners(StatCounterEntityListener.class)
 @Table(name = "claims")
 @Data
 @EqualsAndHashCode(callSuper = true)
@@ -67,6 +70,12 @@ public class Claim extends BaseEntity {
     @OneToMany(mappedBy = "relatedClaim", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private java.util.List<Notification> notifications = new java.util.ArrayList<>();
     
+    // 统计计数器：上次加载或写入时计入的取值，用于计算增量
+    @Transient
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private long[] counterSnapshot;
+    
     // 枚举定义
     public enum ClaimStatus {
         SUBMITTED("已提交"),
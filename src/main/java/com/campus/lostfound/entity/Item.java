@@ -1,11 +1,14 @@
 package com.campus.lostfound.entity;
 
+import com.campus.lostfound.stats.StatCounterEntityListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -15,7 +18,11 @@ import java.util.List;
  * 物品实体类
  */
 @Entity
-@Table(name = "items")
+@EntityListeners(StatCounterEntityListener.class)
+@Table(name = "items", indexes = {
+        @Index(name = "idx_items_feed", columnList = "created_at, id"),
+        @Index(name = "idx_items_popular", columnList = "approved, status, postType, claimCount")
+})
 @Data
 @EqualsAndHashCode(callSuper = true)
 public class Item extends BaseEntity {
@@ -78,6 +85,11 @@ public class Item extends BaseEntity {
     @JoinColumn(name = "approved_by")
     private User approvedBy;
     
+    // 认领申请数（冗余列），只由 ItemRepository 的原子增减语句维护，实体保存时不写回
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private Integer claimCount = 0;
+    
     // 关联关系
     @OneToMany(mappedBy = "item", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<ItemImage> images = new ArrayList<>();
@@ -88,6 +100,12 @@ public class Item extends BaseEntity {
     @OneToMany(mappedBy = "item", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<ChatThread> chatThreads = new ArrayList<>();
     
+    // 统计计数器：上次加载或写入时计入的取值，用于计算增量
+    @Transient
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private long[] counterSnapshot;
+    
     // 枚举定义
     public enum ItemCategory {
         // 证件类
@@ -225,11 +243,25 @@ public class Item extends BaseEntity {
         return isApproved() && (ItemStatus.PENDING_CLAIM.equals(status) || ItemStatus.CLAIMED.equals(status));
     }
     
+    /** 时间权重发生变化的发布天数边界 */
+    public static final int[] TIME_WEIGHT_BOUNDARY_DAYS = {2, 4, 8, 15};
+    
     /**
      * 计算物品的总权重
      * 权重 = 地点权重 + 详细地点权重 + 类别权重 + 时间权重
      */
     public void calculateTotalWeight() {
+        // 发布时尚未持久化，按当前时间计算新鲜度
+        LocalDateTime now = LocalDateTime.now();
+        this.totalWeight = computeTotalWeight(location, detailedLocation, category,
+                getCreatedAt() != null ? getCreatedAt() : now, now);
+    }
+    
+    /**
+     * 按给定时间点计算总权重（供批量重算权重使用，无需加载实体）
+     */
+    public static int computeTotalWeight(Location location, DetailedLocation detailedLocation,
+                                         ItemCategory category, LocalDateTime createdAt, LocalDateTime now) {
         int weight = 0;
         
         // 地点权重
@@ -248,17 +280,17 @@ public class Item extends BaseEntity {
         }
         
         // 时间权重（基于发布时间的新鲜度）
-        if (getCreatedAt() != null) {
-            weight += getTimeWeight(getCreatedAt());
+        if (createdAt != null) {
+            weight += getTimeWeight(createdAt, now);
         }
         
-        this.totalWeight = weight;
+        return weight;
     }
     
     /**
      * 获取类别权重
      */
-    private int getCategoryWeight(ItemCategory category) {
+    private static int getCategoryWeight(ItemCategory category) {
         switch (category) {
             // 证件类 - 权重最高
             case STUDENT_ID:
@@ -351,9 +383,10 @@ public class Item extends BaseEntity {
     
     /**
      * 获取时间权重（基于发布时间的新鲜度）
+     * 发布后第 2、4、8、15 天权重下降一档，见 TIME_WEIGHT_BOUNDARY_DAYS
      */
-    private int getTimeWeight(LocalDateTime createdAt) {
-        long daysSinceCreated = java.time.temporal.ChronoUnit.DAYS.between(createdAt, LocalDateTime.now());
+    private static int getTimeWeight(LocalDateTime createdAt, LocalDateTime now) {
+        long daysSinceCreated = java.time.temporal.ChronoUnit.DAYS.between(createdAt, now);
         
         if (daysSinceCreated <= 1) {
             return 10; // 1天内发布，权重最高
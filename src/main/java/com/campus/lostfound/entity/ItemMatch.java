@@ -10,7 +10,8 @@ import java.time.LocalDateTime;
  * 物品匹配记录实体类
  */
 @Entity
-@Table(name = "item_matches")
+@Table(name = "item_matches",
+        uniqueConstraints = @UniqueConstraint(name = "uk_item_matches_active_pair", columnNames = "active_pair_key"))
 @Data
 @EqualsAndHashCode(callSuper = true)
 public class ItemMatch extends BaseEntity {
@@ -40,6 +41,13 @@ public class ItemMatch extends BaseEntity {
     @Column
     private LocalDateTime completedAt;
 
+    /**
+     * 活跃匹配对键 "较小ID:较大ID"，仅 ACTIVE 状态有值；
+     * 唯一索引保证同一对物品最多一条活跃匹配（NULL 不参与唯一性比较）
+     */
+    @Column(name = "active_pair_key", length = 41)
+    private String activePairKey;
+
     // 匹配状态枚举
     public enum MatchStatus {
         ACTIVE("活跃"),
@@ -58,6 +66,18 @@ public class ItemMatch extends BaseEntity {
         }
     }
 
+    public static String pairKey(long itemId1, long itemId2) {
+        return Math.min(itemId1, itemId2) + ":" + Math.max(itemId1, itemId2);
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void syncActivePairKey() {
+        activePairKey = MatchStatus.ACTIVE.equals(status) && lostItem != null && foundItem != null
+                ? pairKey(lostItem.getId(), foundItem.getId())
+                : null;
+    }
+
     // 业务方法
     public boolean isActive() {
         return MatchStatus.ACTIVE.equals(status);
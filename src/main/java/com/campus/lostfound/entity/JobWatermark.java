@@ -0,0 +1,30 @@
+package com.campus.lostfound.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 定时任务水位实体类
+ * 每个增量任务一行，记录上次完成处理的时间点，重启后从水位继续而不是全量重做
+ */
+@Entity
+@Table(name = "job_watermarks")
+@Data
+@NoArgsConstructor
+public class JobWatermark {
+
+    @Id
+    @Column(name = "job_name", length = 64)
+    private String jobName;
+
+    @Column(name = "watermark", nullable = false)
+    private LocalDateTime watermark;
+
+    public JobWatermark(String jobName, LocalDateTime watermark) {
+        this.jobName = jobName;
+        this.watermark = watermark;
+    }
+}
@@ -0,0 +1,72 @@
+package com.campus.lostfound.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.time.LocalDateTime;
+
+/**
+ * 发件箱消息实体类
+ * 与业务状态变更在同一事务中写入，由 OutboxRelay 在提交后批量投递
+ */
+@Entity
+@Table(name = "outbox_messages",
+        uniqueConstraints = @UniqueConstraint(columnNames = "dedup_key"),
+        indexes = @Index(name = "idx_outbox_status_available", columnList = "status, available_at, id"))
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class OutboxMessage extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private MessageType type;
+
+    /** 去重键：同一键只会写入一次 */
+    @Column(name = "dedup_key", nullable = false, length = 200)
+    private String dedupKey;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status = Status.PENDING;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column
+    private LocalDateTime processedAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    // 枚举定义
+    public enum MessageType {
+        NOTIFICATION("发送通知"),
+        ITEM_MATCHING("物品匹配"),
+        MATCH_EVENT("匹配事件补投");
+
+        private final String description;
+
+        MessageType(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    public enum Status {
+        PENDING, DONE, FAILED
+    }
+}
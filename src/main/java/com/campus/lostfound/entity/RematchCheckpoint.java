@@ -0,0 +1,33 @@
+package com.campus.lostfound.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * 全量重新匹配的分区检查点，每个已完成的地点分区一条
+ */
+@Entity
+@Table(name = "rematch_checkpoints",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"run_id", "location"}))
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class RematchCheckpoint extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Location location;
+
+    @Column(nullable = false)
+    private Long pairsScored = 0L;
+
+    @Column(nullable = false)
+    private Long matchesCreated = 0L;
+}
@@ -0,0 +1,49 @@
+package com.campus.lostfound.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.time.LocalDateTime;
+
+/**
+ * 全量重新匹配任务记录
+ * 按地点分区执行，未完成的任务可从检查点继续
+ */
+@Entity
+@Table(name = "rematch_runs")
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class RematchRun extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status = Status.RUNNING;
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column
+    private LocalDateTime finishedAt;
+
+    @Column(nullable = false)
+    private Integer totalPartitions = 0;
+
+    @Column(nullable = false)
+    private Integer completedPartitions = 0;
+
+    @Column(nullable = false)
+    private Long pairsScored = 0L;
+
+    @Column(nullable = false)
+    private Long matchesCreated = 0L;
+
+    @Column
+    private String message;
+
+    public enum Status { RUNNING, COMPLETED, CANCELLED, FAILED }
+}
@@ -0,0 +1,34 @@
+package com.campus.lostfound.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 统计计数器实体类
+ * 每个计数器一行，由 StatCounterService 定期累加增量、定期按源表校准
+ */
+@Entity
+@Table(name = "stat_counters")
+@Data
+@NoArgsConstructor
+public class StatCounter {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(name = "counter_value", nullable = false)
+    private long value;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public StatCounter(String name, long value) {
+        this.name = name;
+        this.value = value;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,37 @@
+package com.campus.lostfound.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 认领生命周期事件
+ * 认领提交、审核、撤销时发布，供首页快照等依赖认领数量的组件刷新
+ */
+@Getter
+public class ClaimLifecycleEvent extends ApplicationEvent {
+
+    private final Long itemId;
+    private final Type type;
+
+    public ClaimLifecycleEvent(Object source, Long itemId, Type type) {
+        super(source);
+        this.itemId = itemId;
+        this.type = type;
+    }
+
+    public enum Type {
+        SUBMITTED("提交"),
+        REVIEWED("审核"),
+        REMOVED("撤销");
+
+        private final String description;
+
+        Type(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.campus.lostfound.event;
+
+import com.campus.lostfound.entity.Item;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 物品生命周期事件
+ * 物品发布、审核、状态变更、编辑、权重重算、删除时发布，供内存索引等组件增量维护
+ */
+@Getter
+public class ItemLifecycleEvent extends ApplicationEvent {
+
+    private final Item item;
+    private final Type type;
+
+    public ItemLifecycleEvent(Object source, Item item, Type type) {
+        super(source);
+        this.item = item;
+        this.type = type;
+    }
+
+    public boolean isDeleted() {
+        return type == Type.DELETED;
+    }
+
+    public enum Type {
+        POSTED("发布"),
+        APPROVED("审核通过"),
+        UPDATED("编辑"),
+        STATUS_CHANGED("状态变更"),
+        REWEIGHTED("权重重算"),
+        DELETED("删除");
+
+        private final String description;
+
+        Type(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.campus.lostfound.event;
+
+import com.campus.lostfound.dto.NotificationMessage;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 用户通知事件
+ * 新通知写入或未读数（通知、聊天消息）变化时发布，事务提交后推送给该用户在线的浏览器
+ */
+@Getter
+public class NotificationEvent extends ApplicationEvent {
+
+    private final Long userId;
+    private final Type type;
+    // 仅 CREATED 时有值
+    private final NotificationMessage message;
+
+    public NotificationEvent(Object source, Long userId, Type type, NotificationMessage message) {
+        super(source);
+        this.userId = userId;
+        this.type = type;
+        this.message = message;
+    }
+
+    public static NotificationEvent created(Object source, Long userId, NotificationMessage message) {
+        return new NotificationEvent(source, userId, Type.CREATED, message);
+    }
+
+    public static NotificationEvent unreadChanged(Object source, Long userId) {
+        return new NotificationEvent(source, userId, Type.UNREAD_CHANGED, null);
+    }
+
+    public enum Type {
+        CREATED("新通知"),
+        UNREAD_CHANGED("未读数变化");
+
+        private final String description;
+
+        Type(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
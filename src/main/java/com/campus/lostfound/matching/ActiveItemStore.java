@@ -0,0 +1,359 @@
+package com.campus.lostfound.matching;
+
+import com.campus.lostfound.entity.Item;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 活跃物品的列式存储
+ * 已审核、待认领物品的打分字段按 (发布类型, 类别) 分段保存在并行的基本类型数组中，
+ * 打分内核顺序扫描数组，不访问实体、不产生临时对象；由 MatchCandidateIndex 增量维护
+ */
+@Component
+public class ActiveItemStore {
+
+    /** 枚举为空时的序号 */
+    public static final int NONE = -1;
+    /** 时间为空时的分钟数 */
+    public static final int NO_TIME = Integer.MIN_VALUE;
+
+    /** 建议打分的命中标记 */
+    public static final int SAME_LOCATION = 1;
+    public static final int SAME_DETAILED_LOCATION = 1 << 1;
+    public static final int TIME_VERY_CLOSE = 1 << 2;
+    public static final int TIME_CLOSE = 1 << 3;
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Segment[][] segments = new Segment[Item.PostType.values().length][Item.ItemCategory.values().length];
+    // ID -> 所在分段，写锁保护
+    private final Map<Long, Segment> segmentById = new HashMap<>();
+
+    public ActiveItemStore() {
+        for (Segment[] byCategory : segments) {
+            for (int c = 0; c < byCategory.length; c++) {
+                byCategory[c] = new Segment(c);
+            }
+        }
+    }
+
+    /**
+     * 写入或覆盖物品的列数据
+     */
+    public void put(IndexedItem entry) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(entry.getId());
+            Segment segment = segments[entry.getPostType().ordinal()][entry.getCategory().ordinal()];
+            segment.add(entry);
+            segmentById.put(entry.getId(), segment);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long itemId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(itemId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            segmentById.clear();
+            for (Segment[] byCategory : segments) {
+                for (Segment segment : byCategory) {
+                    segment.clear();
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return segmentById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 权重规则内核：相反类型、相同总权重、相同地点的物品，
+     * 得分 = 权重 0.4 + 地点 0.3 + 详细地点 0.2 + 类别 0.1
+     */
+    public void scanWeightMatches(Item.PostType postType, int totalWeight, int location, int detailedLocation,
+                                  int category, WeightMatchSink sink) {
+        lock.readLock().lock();
+        try {
+            for (Segment segment : segments[postType.ordinal()]) {
+                int categoryScore = segment.category == category ? 1 : 0; // 1 表示类别相同
+                long[] ids = segment.ids;
+                int[] weights = segment.totalWeight;
+                int[] locations = segment.location;
+                int[] detailed = segment.detailedLocation;
+                for (int i = 0, n = segment.size; i < n; i++) {
+                    if (weights[i] != totalWeight || locations[i] != location) {
+                        continue;
+                    }
+                    sink.accept(ids[i], weightRuleScore(detailedLocation, detailed[i], categoryScore == 1));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 候选建议内核：相反类型、相同类别、创建时间不早于 sinceMinute 的物品，
+     * 按百分制计算除文本外的得分：类别 30 + 地点 25 + 详细地点 20 + 时间差≤3天 15 / ≤7天 8
+     */
+    public void scanSuggestions(Item.PostType postType, int category, int sinceMinute, int location,
+                                int detailedLocation, int lostFoundMinute, SuggestionSink sink) {
+        lock.readLock().lock();
+        try {
+            Segment segment = segments[postType.ordinal()][category];
+            long[] ids = segment.ids;
+            int[] created = segment.createdMinute;
+            int[] locations = segment.location;
+            int[] detailed = segment.detailedLocation;
+            int[] times = segment.lostFoundMinute;
+            int[][] tokens = segment.tokenIds;
+            for (int i = 0, n = segment.size; i < n; i++) {
+                if (created[i] == NO_TIME || created[i] < sinceMinute) {
+                    continue;
+                }
+                int score = 30;
+                int flags = 0;
+                if (location != NONE && locations[i] == location) {
+                    score += 25;
+                    flags |= SAME_LOCATION;
+                }
+                if (detailedLocation != NONE && detailed[i] == detailedLocation) {
+                    score += 20;
+                    flags |= SAME_DETAILED_LOCATION;
+                }
+                if (lostFoundMinute != NO_TIME && times[i] != NO_TIME) {
+                    long days = Math.abs((long) times[i] - lostFoundMinute) / MINUTES_PER_DAY;
+                    if (days <= 3) {
+                        score += 15;
+                        flags |= TIME_VERY_CLOSE;
+                    } else if (days <= 7) {
+                        score += 8;
+                        flags |= TIME_CLOSE;
+                    }
+                }
+                sink.accept(ids[i], score, flags, tokens[i]);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 权重与地点均相同的一对物品的得分：0.7 + 详细地点相同 0.2 + 类别相同 0.1
+     */
+    public static double weightRuleScore(int detailedA, int detailedB, boolean sameCategory) {
+        int tenths = 7;
+        if (detailedA != NONE && detailedA == detailedB) {
+            tenths += 2;
+        }
+        if (sameCategory) {
+            tenths += 1;
+        }
+        return tenths / 10.0;
+    }
+
+    /**
+     * 复制指定地点的全部活跃物品（两种发布类型、所有类别），供批量匹配离线使用
+     */
+    public LocationPartition partition(int location) {
+        lock.readLock().lock();
+        try {
+            LocationPartition partition = new LocationPartition();
+            for (int t = 0; t < segments.length; t++) {
+                for (Segment segment : segments[t]) {
+                    for (int i = 0, n = segment.size; i < n; i++) {
+                        if (segment.location[i] == location) {
+                            partition.add(segment.ids[i], t, segment.category,
+                                    segment.detailedLocation[i], segment.totalWeight[i]);
+                        }
+                    }
+                }
+            }
+            return partition;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static int epochMinute(LocalDateTime time) {
+        return time == null ? NO_TIME : (int) Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    public static int ordinal(Enum<?> value) {
+        return value == null ? NONE : value.ordinal();
+    }
+
+    private void removeLocked(Long itemId) {
+        Segment segment = segmentById.remove(itemId);
+        if (segment != null) {
+            segment.remove(itemId);
+        }
+    }
+
+    @FunctionalInterface
+    public interface WeightMatchSink {
+        void accept(long itemId, double score);
+    }
+
+    /**
+     * 在读锁内被回调，不得写入存储
+     */
+    @FunctionalInterface
+    public interface SuggestionSink {
+        void accept(long itemId, int score, int flags, int[] tokenIds);
+    }
+
+    /**
+     * 单个地点分区的列数据副本
+     */
+    public static final class LocationPartition {
+
+        private long[] ids = new long[16];
+        private int[] postType = new int[16];
+        private int[] category = new int[16];
+        private int[] detailedLocation = new int[16];
+        private int[] totalWeight = new int[16];
+        private int size;
+
+        private void add(long id, int type, int cat, int detailed, int weight) {
+            if (size == ids.length) {
+                int capacity = size << 1;
+                ids = Arrays.copyOf(ids, capacity);
+                postType = Arrays.copyOf(postType, capacity);
+                category = Arrays.copyOf(category, capacity);
+                detailedLocation = Arrays.copyOf(detailedLocation, capacity);
+                totalWeight = Arrays.copyOf(totalWeight, capacity);
+            }
+            ids[size] = id;
+            postType[size] = type;
+            category[size] = cat;
+            detailedLocation[size] = detailed;
+            totalWeight[size] = weight;
+            size++;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public long id(int i) {
+            return ids[i];
+        }
+
+        public boolean isLost(int i) {
+            return postType[i] == Item.PostType.LOST.ordinal();
+        }
+
+        public int category(int i) {
+            return category[i];
+        }
+
+        public int detailedLocation(int i) {
+            return detailedLocation[i];
+        }
+
+        public int totalWeight(int i) {
+            return totalWeight[i];
+        }
+    }
+
+    /**
+     * 同一 (发布类型, 类别) 的列数据，删除时用末尾元素填补空位保持紧凑
+     */
+    private static final class Segment {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private final int category;
+        private final Map<Long, Integer> positions = new HashMap<>();
+        private long[] ids = new long[INITIAL_CAPACITY];
+        private int[] location = new int[INITIAL_CAPACITY];
+        private int[] detailedLocation = new int[INITIAL_CAPACITY];
+        private int[] lostFoundMinute = new int[INITIAL_CAPACITY];
+        private int[] createdMinute = new int[INITIAL_CAPACITY];
+        private int[] totalWeight = new int[INITIAL_CAPACITY];
+        private int[][] tokenIds = new int[INITIAL_CAPACITY][];
+        private int size;
+
+        private Segment(int category) {
+            this.category = category;
+        }
+
+        private void add(IndexedItem entry) {
+            if (size == ids.length) {
+                grow();
+            }
+            int i = size++;
+            ids[i] = entry.getId();
+            location[i] = ordinal(entry.getLocation());
+            detailedLocation[i] = ordinal(entry.getDetailedLocation());
+            lostFoundMinute[i] = epochMinute(entry.getLostFoundTime());
+            createdMinute[i] = epochMinute(entry.getCreatedAt());
+            totalWeight[i] = entry.getTotalWeight() == null ? NONE : entry.getTotalWeight();
+            tokenIds[i] = entry.getTokenIds();
+            positions.put(entry.getId(), i);
+        }
+
+        private void remove(Long itemId) {
+            Integer position = positions.remove(itemId);
+            if (position == null) {
+                return;
+            }
+            int i = position;
+            int last = --size;
+            if (i != last) {
+                ids[i] = ids[last];
+                location[i] = location[last];
+                detailedLocation[i] = detailedLocation[last];
+                lostFoundMinute[i] = lostFoundMinute[last];
+                createdMinute[i] = createdMinute[last];
+                totalWeight[i] = totalWeight[last];
+                tokenIds[i] = tokenIds[last];
+                positions.put(ids[i], i);
+            }
+            tokenIds[last] = null;
+        }
+
+        private void clear() {
+            positions.clear();
+            Arrays.fill(tokenIds, 0, size, null);
+            size = 0;
+        }
+
+        private void grow() {
+            int capacity = ids.length << 1;
+            ids = Arrays.copyOf(ids, capacity);
+            location = Arrays.copyOf(location, capacity);
+            detailedLocation = Arrays.copyOf(detailedLocation, capacity);
+            lostFoundMinute = Arrays.copyOf(lostFoundMinute, capacity);
+            createdMinute = Arrays.copyOf(createdMinute, capacity);
+            totalWeight = Arrays.copyOf(totalWeight, capacity);
+            tokenIds = Arrays.copyOf(tokenIds, capacity);
+        }
+    }
+}
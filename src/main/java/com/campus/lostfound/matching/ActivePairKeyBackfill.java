@@ -0,0 +1,39 @@
+package com.campus.lostfound.matching;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 启动时补齐匹配对键
+ * 旧数据中的活跃匹配没有 active_pair_key，重复的活跃匹配只保留一条（其余标记为已取消），
+ * 再为剩余的活跃匹配写入键；非活跃匹配的键清空。已补齐时各语句影响 0 行
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ActivePairKeyBackfill {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int cleared = jdbcTemplate.update(
+                "UPDATE item_matches SET active_pair_key = NULL WHERE status <> 'ACTIVE' AND active_pair_key IS NOT NULL");
+        int cancelled = jdbcTemplate.update(
+                "UPDATE item_matches m SET status = 'CANCELLED' WHERE m.status = 'ACTIVE' AND m.active_pair_key IS NULL " +
+                "AND EXISTS (SELECT 1 FROM item_matches o WHERE o.status = 'ACTIVE' AND o.id <> m.id " +
+                "AND LEAST(o.lost_item_id, o.found_item_id) = LEAST(m.lost_item_id, m.found_item_id) " +
+                "AND GREATEST(o.lost_item_id, o.found_item_id) = GREATEST(m.lost_item_id, m.found_item_id) " +
+                "AND (o.active_pair_key IS NOT NULL OR o.id < m.id))");
+        int keyed = jdbcTemplate.update(
+                "UPDATE item_matches SET active_pair_key = CONCAT(LEAST(lost_item_id, found_item_id), ':', " +
+                "GREATEST(lost_item_id, found_item_id)) WHERE status = 'ACTIVE' AND active_pair_key IS NULL");
+        if (cleared + cancelled + keyed > 0) {
+            log.info("匹配对键补齐完成：写入 {} 条，取消重复活跃匹配 {} 条，清除 {} 条", keyed, cancelled, cleared);
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.campus.lostfound.matching;
+
+import com.campus.lostfound.entity.ItemMatch;
+import com.campus.lostfound.entity.Location;
+import com.campus.lostfound.entity.RematchCheckpoint;
+import com.campus.lostfound.entity.RematchRun;
+import com.campus.lostfound.repository.ItemMatchRepository;
+import com.campus.lostfound.repository.RematchCheckpointRepository;
+import com.campus.lostfound.repository.RematchRunRepository;
+import com.campus.lostfound.util.LongHashSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 全量重新匹配
+ * 按地点把活跃物品分区，各分区内按权重做失物×拾获的哈希连接（权重不同的对得分达不到阈值），
+ * 分区并行执行、批量写入匹配记录；每完成一个分区写一条检查点，取消或中断后可从检查点继续
+ */
+@Component
+@Slf4j
+public class BulkRematchService {
+
+    private static final double MATCH_THRESHOLD = 0.7;
+
+    private final ActiveItemStore activeItemStore;
+    private final ItemMatchRepository itemMatchRepository;
+    private final RematchRunRepository rematchRunRepository;
+    private final RematchCheckpointRepository rematchCheckpointRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean scheduleEnabled;
+    private final int parallelism;
+    private final int insertBatchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile boolean cancelRequested;
+    private volatile RematchRun currentRun;
+    // 当前任务进行中分区的实时计数，分区完成后并入任务记录
+    private final AtomicLong livePairsScored = new AtomicLong();
+    private final AtomicLong liveMatchesCreated = new AtomicLong();
+
+    public BulkRematchService(ActiveItemStore activeItemStore,
+                              ItemMatchRepository itemMatchRepository,
+                              RematchRunRepository rematchRunRepository,
+                              RematchCheckpointRepository rematchCheckpointRepository,
+                              JdbcTemplate jdbcTemplate,
+                              @Value("${app.matching.rematch.schedule-enabled:true}") boolean scheduleEnabled,
+                              @Value("${app.matching.rematch.parallelism:0}") int parallelism,
+                              @Value("${app.matching.rematch.insert-batch-size:1000}") int insertBatchSize) {
+        this.activeItemStore = activeItemStore;
+        this.itemMatchRepository = itemMatchRepository;
+        this.rematchRunRepository = rematchRunRepository;
+        this.rematchCheckpointRepository = rematchCheckpointRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.scheduleEnabled = scheduleEnabled;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.insertBatchSize = Math.max(1, insertBatchSize);
+    }
+
+    /**
+     * 定时全量重新匹配，优先继续上次未完成的任务
+     */
+    @Scheduled(cron = "${app.matching.rematch.cron:0 30 3 * * SUN}")
+    public void scheduledRematch() {
+        if (scheduleEnabled && !running.get()) {
+            start(true);
+        }
+    }
+
+    /**
+     * 启动重新匹配；resume 为 true 且最近一次任务未完成时，跳过其已完成的分区
+     */
+    public RematchRun start(boolean resume) {
+        if (!running.compareAndSet(false, true)) {
+            throw new RuntimeException("已有重新匹配任务在运行");
+        }
+        try {
+            RematchRun run = null;
+            Set<Location> done = EnumSet.noneOf(Location.class);
+            if (resume) {
+                run = rematchRunRepository.findTopByOrderByIdDesc()
+                        .filter(r -> r.getStatus() != RematchRun.Status.COMPLETED)
+                        .orElse(null);
+                if (run != null) {
+                    for (RematchCheckpoint checkpoint : rematchCheckpointRepository.findByRunId(run.getId())) {
+                        done.add(checkpoint.getLocation());
+                    }
+                    log.info("继续重新匹配任务 {}，已完成 {} 个分区", run.getId(), done.size());
+                }
+            }
+            if (run == null) {
+                run = new RematchRun();
+                run.setStartedAt(LocalDateTime.now());
+                run.setTotalPartitions(Location.values().length);
+            }
+            run.setStatus(RematchRun.Status.RUNNING);
+            run.setFinishedAt(null);
+            run.setMessage(null);
+            run = rematchRunRepository.save(run);
+            cancelRequested = false;
+            livePairsScored.set(0);
+            liveMatchesCreated.set(0);
+            currentRun = run;
+
+            RematchRun started = run;
+            Thread worker = new Thread(() -> execute(started, done), "bulk-rematch-" + run.getId());
+            worker.setDaemon(true);
+            worker.start();
+            return run;
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    /**
+     * 请求取消，进行中的分区在下一批写入前停止，不写检查点
+     */
+    public void cancel() {
+        if (running.get()) {
+            cancelRequested = true;
+        }
+    }
+
+    /**
+     * 当前或最近一次任务的进度
+     */
+    public Map<String, Object> status() {
+        RematchRun run = currentRun != null ? currentRun : rematchRunRepository.findTopByOrderByIdDesc().orElse(null);
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("running", running.get());
+        if (run == null) {
+            return status;
+        }
+        boolean live = running.get() && run == currentRun;
+        status.put("runId", run.getId());
+        status.put("status", run.getStatus());
+        status.put("startedAt", run.getStartedAt());
+        status.put("finishedAt", run.getFinishedAt());
+        status.put("completedPartitions", run.getCompletedPartitions());
+        status.put("totalPartitions", run.getTotalPartitions());
+        status.put("pairsScored", run.getPairsScored() + (live ? livePairsScored.get() : 0));
+        status.put("matchesCreated", run.getMatchesCreated() + (live ? liveMatchesCreated.get() : 0));
+        status.put("cancelRequested", cancelRequested);
+        status.put("message", run.getMessage());
+        return status;
+    }
+
+    private void execute(RematchRun run, Set<Location> done) {
+        long start = System.currentTimeMillis();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<Location> pending = new ArrayList<>();
+            for (Location location : Location.values()) {
+                if (!done.contains(location)) {
+                    pending.add(location);
+                }
+            }
+            pool.submit(() -> pending.parallelStream().forEach(location -> {
+                if (!cancelRequested) {
+                    processPartition(run, location);
+                }
+            })).join();
+            finish(run, cancelRequested ? RematchRun.Status.CANCELLED : RematchRun.Status.COMPLETED, null);
+            log.info("重新匹配任务 {} 结束：{}，新增 {} 条匹配，耗时 {} ms", run.getId(), run.getStatus(),
+                    run.getMatchesCreated(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("重新匹配任务 {} 失败: {}", run.getId(), e.getMessage(), e);
+            finish(run, RematchRun.Status.FAILED, e.getMessage());
+        } finally {
+            pool.shutdown();
+            running.set(false);
+        }
+    }
+
+    private void processPartition(RematchRun run, Location location) {
+        ActiveItemStore.LocationPartition partition = activeItemStore.partition(location.ordinal());
+
+        // 已有活跃匹配的 (失物, 拾获) 对
+        LongHashSet existing = new LongHashSet();
+        for (Object[] pair : itemMatchRepository.findActivePairsByLostLocation(location)) {
+            existing.add(pairKey(((Number) pair[0]).longValue(), ((Number) pair[1]).longValue()));
+        }
+
+        // 拾获物品按权重分组，失物只与同权重的拾获物品配对
+        Map<Integer, List<Integer>> foundByWeight = new HashMap<>();
+        for (int i = 0; i < partition.size(); i++) {
+            if (!partition.isLost(i)) {
+                foundByWeight.computeIfAbsent(partition.totalWeight(i), k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        long pairsScored = 0;
+        long matchesCreated = 0;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(insertBatchSize);
+        for (int i = 0; i < partition.size(); i++) {
+            if (!partition.isLost(i)) {
+                continue;
+            }
+            List<Integer> founds = foundByWeight.get(partition.totalWeight(i));
+            if (founds == null) {
+                continue;
+            }
+            long lostId = partition.id(i);
+            for (int j : founds) {
+                pairsScored++;
+                long foundId = partition.id(j);
+                if (existing.contains(pairKey(lostId, foundId))) {
+                    continue;
+                }
+                double score = ActiveItemStore.weightRuleScore(partition.detailedLocation(i),
+                        partition.detailedLocation(j), partition.category(i) == partition.category(j));
+                if (score >= MATCH_THRESHOLD) {
+                    rows.add(new Object[]{lostId, foundId, ItemMatch.pairKey(lostId, foundId), score, now, now, now});
+                    if (rows.size() >= insertBatchSize) {
+                        if (cancelRequested) {
+                            return;
+                        }
+                        matchesCreated += flush(rows);
+                        rows.clear();
+                    }
+                }
+            }
+            livePairsScored.addAndGet(founds.size());
+        }
+        if (cancelRequested) {
+            return;
+        }
+        if (!rows.isEmpty()) {
+            matchesCreated += flush(rows);
+        }
+        checkpoint(run, location, pairsScored, matchesCreated);
+    }
+
+    private int flush(List<Object[]> rows) {
+        // 读取已有匹配后并发创建的对由 MERGE 忽略，影响行数为 0
+        int created = 0;
+        for (int count : jdbcTemplate.batchUpdate(ItemMatchRepository.INSERT_ACTIVE_IF_ABSENT_SQL, rows)) {
+            created += Math.max(count, 0);
+        }
+        liveMatchesCreated.addAndGet(created);
+        return created;
+    }
+
+    /**
+     * 记录分区检查点并累加任务计数
+     */
+    private synchronized void checkpoint(RematchRun run, Location location, long pairsScored, long matchesCreated) {
+        RematchCheckpoint checkpoint = new RematchCheckpoint();
+        checkpoint.setRunId(run.getId());
+        checkpoint.setLocation(location);
+        checkpoint.setPairsScored(pairsScored);
+        checkpoint.setMatchesCreated(matchesCreated);
+        rematchCheckpointRepository.save(checkpoint);
+
+        run.setCompletedPartitions(run.getCompletedPartitions() + 1);
+        run.setPairsScored(run.getPairsScored() + pairsScored);
+        run.setMatchesCreated(run.getMatchesCreated() + matchesCreated);
+        livePairsScored.addAndGet(-pairsScored);
+        liveMatchesCreated.addAndGet(-matchesCreated);
+        rematchRunRepository.save(run);
+        log.debug("重新匹配分区 {} 完成：评估 {} 对，新增 {} 条", location, pairsScored, matchesCreated);
+    }
+
+    private synchronized void finish(RematchRun run, RematchRun.Status status, String message) {
+        run.setStatus(status);
+        run.setFinishedAt(LocalDateTime.now());
+        run.setMessage(message);
+        rematchRunRepository.save(run);
+        livePairsScored.set(0);
+        liveMatchesCreated.set(0);
+    }
+
+    private static long pairKey(long lostId, long foundId) {
+        // 假定物品ID不超过 2^32
+        return (lostId << 32) | (foundId & 0xFFFFFFFFL);
+    }
+}
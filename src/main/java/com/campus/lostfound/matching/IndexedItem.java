@@ -0,0 +1,57 @@
+package com.campus.lostfound.matching;
+
+import com.campus.lostfound.entity.DetailedLocation;
+import com.campus.lostfound.entity.Item;
+import com.campus.lostfound.entity.Location;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 候选索引中的物品快照
+ * 只保留打分需要的字段，不持有JPA实体，避免懒加载代理与持久化上下文
+ */
+@Getter
+public final class IndexedItem {
+
+    private final Long id;
+    private final Item.PostType postType;
+    private final Item.ItemCategory category;
+    private final Location location;
+    private final DetailedLocation detailedLocation;
+    private final LocalDateTime lostFoundTime;
+    private final LocalDateTime createdAt;
+    private final Integer totalWeight;
+    // 标题+描述的词元ID（有序去重）
+    private final int[] tokenIds;
+    // 分词所用的原文，文本未变时复用词元，避免重复分词
+    private final String text;
+
+    private IndexedItem(Item item, int[] tokenIds) {
+        this.id = item.getId();
+        this.postType = item.getPostType();
+        this.category = item.getCategory();
+        this.location = item.getLocation();
+        this.detailedLocation = item.getDetailedLocation();
+        this.lostFoundTime = item.getLostFoundTime();
+        this.createdAt = item.getCreatedAt();
+        this.totalWeight = item.getTotalWeight();
+        this.tokenIds = tokenIds;
+        this.text = textOf(item);
+    }
+
+    public static IndexedItem of(Item item, int[] tokenIds) {
+        return new IndexedItem(item, tokenIds);
+    }
+
+    /**
+     * 参与文本相似度计算的文本：标题 + 描述
+     */
+    public static String textOf(Item item) {
+        return item.getTitle() + " " + item.getDescription();
+    }
+
+    boolean hasSameText(Item item) {
+        return text.equals(textOf(item));
+    }
+}
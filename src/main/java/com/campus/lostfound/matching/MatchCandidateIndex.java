@@ -0,0 +1,130 @@
+package com.campus.lostfound.matching;
+
+import com.campus.lostfound.entity.Item;
+import com.campus.lostfound.event.ItemLifecycleEvent;
+import com.campus.lostfound.repository.ItemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 常驻内存的候选匹配索引
+ * 保存所有已审核、待认领物品的快照，并同步维护打分用的列式存储（按发布类型、类别分段），
+ * 候选建议只需扫描同类别的分段，不再每次扫描30天内的全部物品；
+ * 文本在入索引时分词为有序词元ID，打分时对同分段的每个候选直接计算 Jaccard
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MatchCandidateIndex {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final ItemRepository itemRepository;
+    private final TokenDictionary tokenDictionary;
+    private final ActiveItemStore activeItemStore;
+
+    // ID -> 快照
+    private final Map<Long, IndexedItem> byId = new ConcurrentHashMap<>();
+
+    /**
+     * 应用启动完成后全量加载
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        clear();
+        long lastId = 0L;
+        int loaded = 0;
+        while (true) {
+            List<Item> batch = itemRepository.findActiveAfterId(Item.ItemStatus.PENDING_CLAIM, lastId,
+                    PageRequest.of(0, LOAD_BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+            for (Item item : batch) {
+                refresh(item);
+                lastId = item.getId();
+            }
+            loaded += batch.size();
+        }
+        log.info("候选匹配索引加载完成，共 {} 个物品", loaded);
+    }
+
+    /**
+     * 物品生命周期变化后（事务提交后）增量维护索引
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemLifecycle(ItemLifecycleEvent event) {
+        if (event.isDeleted()) {
+            remove(event.getItem().getId());
+        } else {
+            refresh(event.getItem());
+        }
+    }
+
+    /**
+     * 按物品当前状态更新索引：已审核且待认领的物品入索引，其余移除
+     */
+    public void refresh(Item item) {
+        if (item == null || item.getId() == null) {
+            return;
+        }
+        if (!isIndexable(item)) {
+            remove(item.getId());
+            return;
+        }
+        IndexedItem entry = snapshotOf(item);
+        byId.put(entry.getId(), entry);
+        activeItemStore.put(entry);
+    }
+
+    public void remove(Long itemId) {
+        if (itemId == null) {
+            return;
+        }
+        IndexedItem previous = byId.remove(itemId);
+        if (previous != null) {
+            activeItemStore.remove(itemId);
+        }
+    }
+
+    public IndexedItem get(Long itemId) {
+        return itemId == null ? null : byId.get(itemId);
+    }
+
+    /**
+     * 获取物品的打分快照；文本未变化时复用索引中已有的词元ID，不重复分词
+     */
+    public IndexedItem snapshotOf(Item item) {
+        IndexedItem existing = get(item.getId());
+        if (existing != null && existing.hasSameText(item)) {
+            return IndexedItem.of(item, existing.getTokenIds());
+        }
+        return IndexedItem.of(item, tokenDictionary.tokenIds(IndexedItem.textOf(item)));
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    private boolean isIndexable(Item item) {
+        return item.isApproved()
+                && item.getStatus() == Item.ItemStatus.PENDING_CLAIM
+                && item.getPostType() != null
+                && item.getCategory() != null
+                && item.getLocation() != null;
+    }
+
+    private void clear() {
+        byId.clear();
+        activeItemStore.clear();
+    }
+}
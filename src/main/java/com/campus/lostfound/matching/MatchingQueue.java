@@ -0,0 +1,206 @@
+package com.campus.lostfound.matching;
+
+import com.campus.lostfound.event.ItemLifecycleEvent;
+import com.campus.lostfound.service.MatchingService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 物品权重变化后的异步匹配队列（审核通过后的匹配经由发件箱投递）
+ * 重算权重的事务提交后入队，由有界线程池执行匹配；队列满时物品ID转入延后集合，由定时任务在队列有空位时补交，
+ * 匹配与重试只在工作线程上执行，不占用提交方线程；失败按退避重试，同一物品在队列中只保留一个任务
+ */
+@Component
+@Slf4j
+public class MatchingQueue {
+
+    private final MatchingService matchingService;
+    private final ThreadPoolExecutor executor;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    // 已入队尚未开始执行的物品ID，用于去重
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+    // 队列满时延后的物品ID，等待补交
+    private final Set<Long> deferred = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+    private final LongAdder deferrals = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder totalMillis = new LongAdder();
+    private final AtomicLong maxMillis = new AtomicLong();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+
+    public MatchingQueue(MatchingService matchingService,
+                         @Value("${app.matching.queue.workers:2}") int workers,
+                         @Value("${app.matching.queue.capacity:500}") int capacity,
+                         @Value("${app.matching.queue.max-attempts:3}") int maxAttempts,
+                         @Value("${app.matching.queue.retry-backoff-ms:500}") long retryBackoffMillis) {
+        this.matchingService = matchingService;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMillis = Math.max(0, retryBackoffMillis);
+        AtomicInteger threadNo = new AtomicInteger();
+        ThreadFactory threadFactory = r -> {
+            Thread t = new Thread(r, "matching-" + threadNo.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+        this.executor = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, capacity)), threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 权重变化的事务提交后入队
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemLifecycle(ItemLifecycleEvent event) {
+        if (event.getType() == ItemLifecycleEvent.Type.REWEIGHTED) {
+            enqueue(event.getItem().getId());
+        }
+    }
+
+    /**
+     * 提交匹配任务；同一物品已在队列中时忽略
+     */
+    public void enqueue(Long itemId) {
+        if (itemId == null) {
+            return;
+        }
+        if (deferred.contains(itemId) || !queued.add(itemId)) {
+            deduplicated.increment();
+            return;
+        }
+        try {
+            executor.execute(() -> run(itemId));
+        } catch (RejectedExecutionException e) {
+            // 未进入队列，撤销去重登记
+            queued.remove(itemId);
+            if (executor.isShutdown()) {
+                dropped.increment();
+                return;
+            }
+            // 队列已满：延后补交，不在提交线程上执行匹配
+            deferred.add(itemId);
+            deferrals.increment();
+            return;
+        }
+        submitted.increment();
+        maxQueueDepth.accumulateAndGet(executor.getQueue().size(), Math::max);
+    }
+
+    /**
+     * 定时把延后的物品补交到队列，只补交当前空位数量
+     */
+    @Scheduled(fixedDelayString = "${app.matching.queue.drain-interval-ms:1000}")
+    public void drainDeferred() {
+        if (deferred.isEmpty()) {
+            return;
+        }
+        for (Long itemId : deferred) {
+            if (executor.isShutdown() || executor.getQueue().remainingCapacity() == 0) {
+                break;
+            }
+            if (deferred.remove(itemId)) {
+                enqueue(itemId);
+            }
+        }
+    }
+
+    private void run(Long itemId) {
+        // 开始执行后允许再次入队，执行期间的新变化会触发一次新的匹配
+        queued.remove(itemId);
+        long start = System.nanoTime();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                matchingService.runMatchingForItem(itemId);
+                succeeded.increment();
+                break;
+            } catch (Exception e) {
+                if (attempt >= maxAttempts) {
+                    failed.increment();
+                    log.error("物品 {} 匹配失败，已重试 {} 次: {}", itemId, attempt - 1, e.getMessage());
+                    break;
+                }
+                retried.increment();
+                log.warn("物品 {} 第 {} 次匹配失败，稍后重试: {}", itemId, attempt, e.getMessage());
+                if (!sleep(retryBackoffMillis * attempt)) {
+                    break;
+                }
+            }
+        }
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        totalMillis.add(millis);
+        maxMillis.accumulateAndGet(millis, Math::max);
+        log.debug("物品 {} 匹配任务耗时 {} ms", itemId, millis);
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 队列运行指标
+     */
+    public Map<String, Object> stats() {
+        long done = succeeded.sum() + failed.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("workers", executor.getMaximumPoolSize());
+        stats.put("activeWorkers", executor.getActiveCount());
+        stats.put("queueDepth", executor.getQueue().size());
+        stats.put("queueRemainingCapacity", executor.getQueue().remainingCapacity());
+        stats.put("maxQueueDepth", maxQueueDepth.get());
+        stats.put("submitted", submitted.sum());
+        stats.put("deduplicated", deduplicated.sum());
+        stats.put("deferred", deferred.size());
+        stats.put("deferrals", deferrals.sum());
+        stats.put("dropped", dropped.sum());
+        stats.put("succeeded", succeeded.sum());
+        stats.put("failed", failed.sum());
+        stats.put("retried", retried.sum());
+        stats.put("avgMillis", done == 0 ? 0 : totalMillis.sum() / done);
+        stats.put("maxMillis", maxMillis.get());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!deferred.isEmpty()) {
+            log.warn("匹配队列关闭，{} 个延后的物品未执行", deferred.size());
+            dropped.add(deferred.size());
+            deferred.clear();
+        }
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("匹配队列关闭超时，剩余 {} 个任务未执行", executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.campus.lostfound.matching;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 匹配文本分词器
+ * 中文按字切分为二元/三元组（单字词保留单字），英文与数字按连续字符切分为单词（至少2个字符）
+ * 不使用正则，单次遍历完成
+ */
+public final class TextTokenizer {
+
+    private TextTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char ch = text.charAt(i);
+            if (isCjk(ch)) {
+                int start = i;
+                while (i < length && isCjk(text.charAt(i))) {
+                    i++;
+                }
+                emitCjkGrams(text, start, i, tokens);
+            } else if (isWordChar(ch)) {
+                int start = i;
+                while (i < length && isWordChar(text.charAt(i))) {
+                    i++;
+                }
+                if (i - start >= 2) {
+                    tokens.add(text.substring(start, i).toLowerCase());
+                }
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    private static void emitCjkGrams(String text, int start, int end, List<String> tokens) {
+        int runLength = end - start;
+        if (runLength == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int p = start; p + 2 <= end; p++) {
+            tokens.add(text.substring(p, p + 2));
+            if (p + 3 <= end) {
+                tokens.add(text.substring(p, p + 3));
+            }
+        }
+    }
+
+    static boolean isCjk(char ch) {
+        return ch >= '\u4e00' && ch <= '\u9fa5';
+    }
+
+    private static boolean isWordChar(char ch) {
+        return (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') || (ch >= '0' && ch <= '9');
+    }
+}
@@ -0,0 +1,76 @@
+package com.campus.lostfound.matching;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 全局词元字典
+ * 将分词结果映射为整数ID，每个物品的文本只需保存一份有序去重的 int[]
+ */
+@Component
+public class TokenDictionary {
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    /**
+     * 分词并返回有序去重的词元ID数组
+     */
+    public int[] tokenIds(String text) {
+        List<String> tokens = TextTokenizer.tokenize(text);
+        if (tokens.isEmpty()) {
+            return new int[0];
+        }
+        int[] result = new int[tokens.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ids.computeIfAbsent(tokens.get(i), t -> nextId.getAndIncrement());
+        }
+        Arrays.sort(result);
+        return dedupSorted(result);
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    /**
+     * 两个有序去重数组的 Jaccard 相似度，归并计算交集，不分配内存
+     */
+    public static double jaccard(int[] a, int[] b) {
+        if (a == null || b == null || a.length == 0 || b.length == 0) {
+            return 0.0;
+        }
+        int i = 0;
+        int j = 0;
+        int intersection = 0;
+        while (i < a.length && j < b.length) {
+            int x = a[i];
+            int y = b[j];
+            if (x == y) {
+                intersection++;
+                i++;
+                j++;
+            } else if (x < y) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return (double) intersection / (double) (a.length + b.length - intersection);
+    }
+
+    private static int[] dedupSorted(int[] sorted) {
+        int n = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[n++] = sorted[i];
+            }
+        }
+        return n == sorted.length ? sorted : Arrays.copyOf(sorted, n);
+    }
+}
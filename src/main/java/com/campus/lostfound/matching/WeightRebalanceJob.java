@@ -0,0 +1,146 @@
+package com.campus.lostfound.matching;
+
+import com.campus.lostfound.dto.ItemWeightInput;
+import com.campus.lostfound.entity.Item;
+import com.campus.lostfound.entity.JobWatermark;
+import com.campus.lostfound.event.ItemLifecycleEvent;
+import com.campus.lostfound.repository.ItemRepository;
+import com.campus.lostfound.repository.JobWatermarkRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 时间权重定期重算
+ * totalWeight 含发布时间的新鲜度权重，会随物品变旧而过期，导致按权重相等的匹配漏配。
+ * 首次运行分批全量重算待认领物品，之后只重算自上次运行以来跨过权重档位边界的物品，
+ * 上次运行时间作为水位持久化，重启后仍按增量重算；
+ * 权重变化的物品通过 REWEIGHTED 事件刷新索引并重新进入匹配队列
+ */
+@Component
+@Slf4j
+public class WeightRebalanceJob {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final String JOB_NAME = "weight-rebalance";
+
+    private final ItemRepository itemRepository;
+    private final JobWatermarkRepository jobWatermarkRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int batchSize;
+
+    // 上次完成重算的时间，为空表示尚未从水位表读取
+    private LocalDateTime lastRunAt;
+
+    public WeightRebalanceJob(ItemRepository itemRepository,
+                              JobWatermarkRepository jobWatermarkRepository,
+                              JdbcTemplate jdbcTemplate,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${app.matching.reweight.enabled:true}") boolean enabled,
+                              @Value("${app.matching.reweight.batch-size:2000}") int batchSize) {
+        this.itemRepository = itemRepository;
+        this.jobWatermarkRepository = jobWatermarkRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Scheduled(initialDelayString = "${app.matching.reweight.initial-delay-ms:60000}",
+            fixedDelayString = "${app.matching.reweight.interval-ms:3600000}")
+    public void scheduledRebalance() {
+        if (enabled) {
+            rebalance();
+        }
+    }
+
+    /**
+     * 执行一轮重算，返回权重发生变化的物品数
+     */
+    public synchronized int rebalance() {
+        long start = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> changedIds = new ArrayList<>();
+        if (lastRunAt == null) {
+            lastRunAt = jobWatermarkRepository.findById(JOB_NAME).map(JobWatermark::getWatermark).orElse(null);
+        }
+        int scanned;
+        if (lastRunAt == null) {
+            scanned = rebalanceRange(EPOCH, now, now, changedIds);
+        } else {
+            // 物品在发布后第 N 天跨过边界：发布时间落在 (上次运行-N天, 本次运行-N天] 内
+            scanned = 0;
+            for (int days : Item.TIME_WEIGHT_BOUNDARY_DAYS) {
+                scanned += rebalanceRange(lastRunAt.minusDays(days), now.minusDays(days), now, changedIds);
+            }
+        }
+        // 本轮全部写入后再推进水位，中途失败时下次从旧水位重做
+        jobWatermarkRepository.save(new JobWatermark(JOB_NAME, now));
+        lastRunAt = now;
+        publishReweighted(changedIds);
+        log.info("物品权重重算完成：检查 {} 个，更新 {} 个，耗时 {} ms",
+                scanned, changedIds.size(), System.currentTimeMillis() - start);
+        return changedIds.size();
+    }
+
+    /**
+     * 按ID分批重算发布时间在 (createdAfter, createdUpTo] 内的物品，返回检查的物品数
+     */
+    private int rebalanceRange(LocalDateTime createdAfter, LocalDateTime createdUpTo, LocalDateTime now,
+                               List<Long> changedIds) {
+        int scanned = 0;
+        long lastId = 0L;
+        while (true) {
+            List<ItemWeightInput> batch = itemRepository.findWeightInputsAfterId(createdAfter, createdUpTo, lastId,
+                    PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            List<Object[]> updates = new ArrayList<>();
+            List<Long> updateIds = new ArrayList<>();
+            for (ItemWeightInput input : batch) {
+                int weight = Item.computeTotalWeight(input.getLocation(), input.getDetailedLocation(),
+                        input.getCategory(), input.getCreatedAt(), now);
+                if (input.getTotalWeight() == null || input.getTotalWeight() != weight) {
+                    // 附带旧值作为条件，期间被其他操作改过的行不覆盖
+                    updates.add(new Object[]{weight, input.getId(), input.getTotalWeight()});
+                    updateIds.add(input.getId());
+                }
+                lastId = input.getId();
+            }
+            if (!updates.isEmpty()) {
+                int[] counts = jdbcTemplate.batchUpdate(
+                        "UPDATE items SET total_weight = ? WHERE id = ? AND total_weight IS NOT DISTINCT FROM ?", updates);
+                for (int i = 0; i < counts.length; i++) {
+                    if (counts[i] != 0) {
+                        changedIds.add(updateIds.get(i));
+                    }
+                }
+            }
+            scanned += batch.size();
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        return scanned;
+    }
+
+    private void publishReweighted(List<Long> changedIds) {
+        for (int from = 0; from < changedIds.size(); from += batchSize) {
+            List<Long> chunk = changedIds.subList(from, Math.min(changedIds.size(), from + batchSize));
+            for (Item item : itemRepository.findAllById(chunk)) {
+                eventPublisher.publishEvent(new ItemLifecycleEvent(this, item, ItemLifecycleEvent.Type.REWEIGHTED));
+            }
+        }
+    }
+}
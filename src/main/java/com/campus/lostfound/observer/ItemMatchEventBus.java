@@ -0,0 +1,242 @@
+package com.campus.lostfound.observer;
+
+import com.campus.lostfound.entity.ItemMatch;
+import com.campus.lostfound.outbox.OutboxService;
+import com.campus.lostfound.repository.ItemMatchRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 匹配事件总线
+ * 匹配事件在事务提交后才投递（事务回滚则不投递）；每个观察者独占一个单线程执行器和有界队列，
+ * 慢观察者或异常只影响自己；投递时在新事务中按ID重新加载匹配记录，避免使用已脱管的实体。
+ * 观察者队列已满时事件写入发件箱，由 OutboxRelay 补投给该观察者（顺序可能晚于之后的事件），不丢弃
+ */
+@Component
+@Slf4j
+public class ItemMatchEventBus {
+
+    public enum Kind { FOUND, UPDATED, CANCELLED }
+
+    private final ItemMatchRepository itemMatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate overflowTemplate;
+    private final OutboxService outboxService;
+    private final int queueCapacity;
+    private final Map<ItemMatchObserver, ObserverChannel> channels = new ConcurrentHashMap<>();
+
+    public ItemMatchEventBus(ItemMatchRepository itemMatchRepository,
+                             PlatformTransactionManager transactionManager,
+                             OutboxService outboxService,
+                             @Value("${app.events.observer-queue-capacity:1000}") int queueCapacity) {
+        this.itemMatchRepository = itemMatchRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 溢出发生在提交后回调中，写发件箱需要独立的新事务
+        this.overflowTemplate = new TransactionTemplate(transactionManager);
+        this.overflowTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.outboxService = outboxService;
+        this.queueCapacity = Math.max(1, queueCapacity);
+    }
+
+    public void register(ItemMatchObserver observer) {
+        channels.computeIfAbsent(observer, o -> new ObserverChannel(o, queueCapacity));
+    }
+
+    public void unregister(ItemMatchObserver observer) {
+        ObserverChannel channel = channels.remove(observer);
+        if (channel != null) {
+            channel.executor.shutdown();
+        }
+    }
+
+    public int observerCount() {
+        return channels.size();
+    }
+
+    /**
+     * 发布匹配事件：有活动事务时在提交后投递，否则立即投递
+     */
+    public void publish(Kind kind, ItemMatch match) {
+        if (match == null || match.getId() == null) {
+            return;
+        }
+        Long matchId = match.getId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(kind, matchId);
+                }
+            });
+        } else {
+            dispatch(kind, matchId);
+        }
+    }
+
+    private void dispatch(Kind kind, Long matchId) {
+        long publishedAt = System.nanoTime();
+        for (ObserverChannel channel : channels.values()) {
+            try {
+                channel.executor.execute(() -> deliver(channel, kind, matchId, publishedAt));
+            } catch (RejectedExecutionException e) {
+                overflow(channel, kind, matchId);
+            }
+        }
+    }
+
+    /**
+     * 观察者队列已满：写入发件箱稍后补投
+     */
+    private void overflow(ObserverChannel channel, Kind kind, Long matchId) {
+        try {
+            overflowTemplate.executeWithoutResult(status ->
+                    outboxService.enqueueMatchEvent(channel.name, kind.name(), matchId));
+            channel.overflowed.increment();
+            log.debug("观察者 {} 队列已满，匹配事件 {}#{} 转入发件箱", channel.name, kind, matchId);
+        } catch (Exception e) {
+            channel.rejected.increment();
+            log.error("观察者 {} 队列已满且写入发件箱失败，丢弃匹配事件 {}#{}: {}", channel.name, kind, matchId, e.getMessage());
+        }
+    }
+
+    /**
+     * 发件箱补投：在投递事务内同步交给指定观察者，失败时抛出异常由发件箱重试
+     */
+    public void redeliver(String observerName, Kind kind, Long matchId) {
+        ObserverChannel channel = null;
+        for (ObserverChannel candidate : channels.values()) {
+            if (candidate.name.equals(observerName)) {
+                channel = candidate;
+                break;
+            }
+        }
+        if (channel == null) {
+            log.warn("观察者 {} 已注销，跳过补投匹配事件 {}#{}", observerName, kind, matchId);
+            return;
+        }
+        ObserverChannel target = channel;
+        itemMatchRepository.findById(matchId).ifPresent(match -> invoke(target.observer, kind, match));
+        target.delivered.increment();
+    }
+
+    private void deliver(ObserverChannel channel, Kind kind, Long matchId, long publishedAt) {
+        long start = System.nanoTime();
+        channel.recordLatency(start - publishedAt);
+        try {
+            transactionTemplate.executeWithoutResult(status -> itemMatchRepository.findById(matchId)
+                    .ifPresent(match -> invoke(channel.observer, kind, match)));
+            channel.delivered.increment();
+        } catch (Exception e) {
+            channel.failed.increment();
+            log.error("观察者 {} 处理匹配事件 {}#{} 失败: {}", channel.name, kind, matchId, e.getMessage(), e);
+        } finally {
+            channel.handleNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private void invoke(ItemMatchObserver observer, Kind kind, ItemMatch match) {
+        switch (kind) {
+            case FOUND:
+                observer.onMatchFound(match);
+                break;
+            case UPDATED:
+                observer.onMatchUpdated(match);
+                break;
+            case CANCELLED:
+                observer.onMatchCancelled(match);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * 各观察者的投递指标
+     */
+    public List<Map<String, Object>> stats() {
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (ObserverChannel channel : channels.values()) {
+            long delivered = channel.delivered.sum();
+            long failed = channel.failed.sum();
+            long handled = delivered + failed;
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("observer", channel.name);
+            stats.put("backlog", channel.executor.getQueue().size());
+            stats.put("delivered", delivered);
+            stats.put("failed", failed);
+            stats.put("overflowed", channel.overflowed.sum());
+            stats.put("rejected", channel.rejected.sum());
+            stats.put("avgDispatchLatencyMicros", handled == 0 ? 0 : channel.latencyNanos.sum() / handled / 1000);
+            stats.put("maxDispatchLatencyMicros", channel.maxLatencyNanos.get() / 1000);
+            stats.put("avgHandleMicros", handled == 0 ? 0 : channel.handleNanos.sum() / handled / 1000);
+            result.add(stats);
+        }
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (ObserverChannel channel : channels.values()) {
+            channel.executor.shutdown();
+        }
+        for (ObserverChannel channel : channels.values()) {
+            if (!channel.executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("观察者 {} 关闭超时，丢弃 {} 个未投递事件", channel.name, channel.executor.getQueue().size());
+                channel.executor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * 单个观察者的投递通道
+     */
+    private static final class ObserverChannel {
+
+        private final ItemMatchObserver observer;
+        private final String name;
+        private final ThreadPoolExecutor executor;
+        private final LongAdder delivered = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder overflowed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder latencyNanos = new LongAdder();
+        private final LongAdder handleNanos = new LongAdder();
+        private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+        private ObserverChannel(ItemMatchObserver observer, int queueCapacity) {
+            this.observer = observer;
+            this.name = ClassUtils.getUserClass(observer).getSimpleName();
+            this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity), r -> {
+                        Thread t = new Thread(r, "match-observer-" + name);
+                        t.setDaemon(true);
+                        return t;
+                    }, new ThreadPoolExecutor.AbortPolicy());
+        }
+
+        private void recordLatency(long nanos) {
+            latencyNanos.add(nanos);
+            maxLatencyNanos.accumulateAndGet(nanos, Math::max);
+        }
+    }
+}
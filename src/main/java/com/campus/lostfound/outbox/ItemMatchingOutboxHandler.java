@@ -0,0 +1,29 @@
+package com.campus.lostfound.outbox;
+
+import com.campus.lostfound.entity.OutboxMessage;
+import com.campus.lostfound.service.MatchingService;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 物品匹配消息处理器
+ * 匹配在投递事务内同步执行，失败时消息保持待投递或标记为 FAILED，可重试或重放；
+ * 已存在的匹配对不会重复创建，重复投递是安全的
+ */
+@Component
+@RequiredArgsConstructor
+public class ItemMatchingOutboxHandler implements OutboxHandler {
+
+    private final MatchingService matchingService;
+
+    @Override
+    public OutboxMessage.MessageType type() {
+        return OutboxMessage.MessageType.ITEM_MATCHING;
+    }
+
+    @Override
+    public void handle(JsonNode payload) {
+        matchingService.runMatchingForItem(payload.path("itemId").asLong());
+    }
+}
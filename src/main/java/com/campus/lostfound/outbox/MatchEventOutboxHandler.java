@@ -0,0 +1,31 @@
+package com.campus.lostfound.outbox;
+
+import com.campus.lostfound.entity.OutboxMessage;
+import com.campus.lostfound.observer.ItemMatchEventBus;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 匹配事件补投处理器
+ * 观察者队列溢出时写入的事件，在投递事务内交给原观察者
+ */
+@Component
+@RequiredArgsConstructor
+public class MatchEventOutboxHandler implements OutboxHandler {
+
+    private final ItemMatchEventBus itemMatchEventBus;
+
+    @Override
+    public OutboxMessage.MessageType type() {
+        return OutboxMessage.MessageType.MATCH_EVENT;
+    }
+
+    @Override
+    public void handle(JsonNode payload) {
+        itemMatchEventBus.redeliver(
+                payload.path("observer").asText(),
+                ItemMatchEventBus.Kind.valueOf(payload.path("kind").asText()),
+                payload.path("matchId").asLong());
+    }
+}
@@ -0,0 +1,51 @@
+package com.campus.lostfound.outbox;
+
+import com.campus.lostfound.entity.Item;
+import com.campus.lostfound.entity.Notification;
+import com.campus.lostfound.entity.OutboxMessage;
+import com.campus.lostfound.entity.User;
+import com.campus.lostfound.repository.ItemRepository;
+import com.campus.lostfound.repository.UserRepository;
+import com.campus.lostfound.service.NotificationService;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 通知消息处理器
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationOutboxHandler implements OutboxHandler {
+
+    private final NotificationService notificationService;
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+
+    @Override
+    public OutboxMessage.MessageType type() {
+        return OutboxMessage.MessageType.NOTIFICATION;
+    }
+
+    @Override
+    public void handle(JsonNode payload) {
+        User user = userRepository.findById(payload.path("userId").asLong()).orElse(null);
+        if (user == null) {
+            log.warn("通知接收用户不存在，跳过: {}", payload);
+            return;
+        }
+        // 关联物品可能已被删除，此时通知不再关联物品
+        Item relatedItem = payload.hasNonNull("relatedItemId")
+                ? itemRepository.findById(payload.get("relatedItemId").asLong()).orElse(null)
+                : null;
+        notificationService.sendNotification(
+                user,
+                Notification.NotificationType.valueOf(payload.path("type").asText()),
+                payload.path("title").asText(),
+                payload.path("content").asText(),
+                relatedItem
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package com.campus.lostfound.outbox;
+
+import com.campus.lostfound.entity.OutboxMessage;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * 发件箱消息处理器
+ * 在投递事务内执行，与消息状态更新一起提交；消息可能被重复投递，处理需幂等或可容忍重复
+ */
+public interface OutboxHandler {
+
+    OutboxMessage.MessageType type();
+
+    void handle(JsonNode payload);
+}
@@ -0,0 +1,154 @@
+package com.campus.lostfound.outbox;
+
+import com.campus.lostfound.entity.OutboxMessage;
+import com.campus.lostfound.repository.OutboxMessageRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 发件箱投递器
+ * 定期批量取出到期消息，每条消息在独立事务中交给对应处理器，处理成功与标记完成一起提交；
+ * 失败按退避重试，超过最大次数标记为 FAILED，可由管理员重放
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<OutboxMessage.MessageType, OutboxHandler> handlers = new EnumMap<>(OutboxMessage.MessageType.class);
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final int retentionDays;
+
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public OutboxRelay(OutboxMessageRepository outboxMessageRepository,
+                       ObjectMapper objectMapper,
+                       PlatformTransactionManager transactionManager,
+                       List<OutboxHandler> handlers,
+                       @Value("${app.outbox.batch-size:100}") int batchSize,
+                       @Value("${app.outbox.max-attempts:5}") int maxAttempts,
+                       @Value("${app.outbox.retry-backoff-ms:5000}") long retryBackoffMillis,
+                       @Value("${app.outbox.retention-days:7}") int retentionDays) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (OutboxHandler handler : handlers) {
+            this.handlers.put(handler.type(), handler);
+        }
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMillis = Math.max(0, retryBackoffMillis);
+        this.retentionDays = Math.max(1, retentionDays);
+    }
+
+    /**
+     * 投递到期消息，直到本轮没有剩余
+     */
+    @Scheduled(initialDelayString = "${app.outbox.initial-delay-ms:5000}",
+               fixedDelayString = "${app.outbox.poll-interval-ms:1000}")
+    public void relay() {
+        List<Long> ids;
+        do {
+            ids = outboxMessageRepository.findDueIds(OutboxMessage.Status.PENDING, LocalDateTime.now(),
+                    PageRequest.of(0, batchSize));
+            for (Long id : ids) {
+                deliver(id);
+            }
+        } while (ids.size() == batchSize);
+    }
+
+    private void deliver(Long id) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                OutboxMessage message = outboxMessageRepository.findById(id).orElse(null);
+                if (message == null || message.getStatus() != OutboxMessage.Status.PENDING) {
+                    return;
+                }
+                OutboxHandler handler = handlers.get(message.getType());
+                if (handler == null) {
+                    throw new IllegalStateException("没有处理器: " + message.getType());
+                }
+                try {
+                    handler.handle(objectMapper.readTree(message.getPayload()));
+                } catch (java.io.IOException e) {
+                    throw new IllegalStateException("消息内容无法解析", e);
+                }
+                message.setStatus(OutboxMessage.Status.DONE);
+                message.setProcessedAt(LocalDateTime.now());
+                message.setAttempts(message.getAttempts() + 1);
+            });
+            delivered.increment();
+        } catch (Exception e) {
+            recordFailure(id, e);
+        }
+    }
+
+    private void recordFailure(Long id, Exception cause) {
+        transactionTemplate.executeWithoutResult(status -> outboxMessageRepository.findById(id).ifPresent(message -> {
+            int attempts = message.getAttempts() + 1;
+            message.setAttempts(attempts);
+            String error = String.valueOf(cause.getMessage());
+            message.setLastError(error.length() > 500 ? error.substring(0, 500) : error);
+            if (attempts >= maxAttempts) {
+                message.setStatus(OutboxMessage.Status.FAILED);
+                failed.increment();
+                log.error("发件箱消息 {}({}) 投递失败 {} 次，已停止重试: {}", id, message.getType(), attempts, error, cause);
+            } else {
+                message.setAvailableAt(LocalDateTime.now().plusNanos(retryBackoffMillis * attempts * 1_000_000L));
+                retried.increment();
+                log.warn("发件箱消息 {}({}) 第 {} 次投递失败，稍后重试: {}", id, message.getType(), attempts, error);
+            }
+        }));
+    }
+
+    /**
+     * 重放失败消息；id 为空时重放全部
+     */
+    public int replayFailed(Long id) {
+        Integer count = transactionTemplate.execute(status -> outboxMessageRepository.replayFailed(id, LocalDateTime.now()));
+        log.info("重放发件箱失败消息 {} 条", count);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 清理超过保留期的已投递消息
+     */
+    @Scheduled(cron = "${app.outbox.purge-cron:0 15 4 * * *}")
+    public void purge() {
+        Integer removed = transactionTemplate.execute(status ->
+                outboxMessageRepository.deleteDoneBefore(LocalDateTime.now().minusDays(retentionDays)));
+        log.info("清理已投递发件箱消息 {} 条", removed);
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("pending", outboxMessageRepository.countByStatus(OutboxMessage.Status.PENDING));
+        stats.put("failed", outboxMessageRepository.countByStatus(OutboxMessage.Status.FAILED));
+        stats.put("done", outboxMessageRepository.countByStatus(OutboxMessage.Status.DONE));
+        stats.put("deliveredSinceStart", delivered.sum());
+        stats.put("retriedSinceStart", retried.sum());
+        stats.put("failedSinceStart", failed.sum());
+        return stats;
+    }
+}
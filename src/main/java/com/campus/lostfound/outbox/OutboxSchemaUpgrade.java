@@ -0,0 +1,47 @@
+package com.campus.lostfound.outbox;
+
+import com.campus.lostfound.entity.OutboxMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 启动时升级发件箱消息类型的检查约束
+ * 建表时按当时的枚举值生成 CHECK 约束，ddl-auto=update 不会更新它，新增消息类型后旧库写入会失败；
+ * 缺少任一类型的约束删除后按当前枚举重建，已是最新时不做任何修改
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxSchemaUpgrade {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void upgrade() {
+        List<String> types = Arrays.stream(OutboxMessage.MessageType.values()).map(Enum::name).toList();
+        List<String[]> checks = jdbcTemplate.query(
+                "SELECT tc.CONSTRAINT_NAME, cc.CHECK_CLAUSE FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS tc " +
+                "JOIN INFORMATION_SCHEMA.CHECK_CONSTRAINTS cc ON cc.CONSTRAINT_SCHEMA = tc.CONSTRAINT_SCHEMA " +
+                "AND cc.CONSTRAINT_NAME = tc.CONSTRAINT_NAME " +
+                "WHERE tc.TABLE_NAME = 'OUTBOX_MESSAGES' AND tc.CONSTRAINT_TYPE = 'CHECK'",
+                (rs, rowNum) -> new String[]{rs.getString(1), rs.getString(2)});
+        for (String[] check : checks) {
+            String clause = check[1];
+            if (!clause.contains("\"TYPE\"") || types.stream().allMatch(type -> clause.contains("'" + type + "'"))) {
+                continue;
+            }
+            jdbcTemplate.execute("ALTER TABLE outbox_messages DROP CONSTRAINT " + check[0]);
+            jdbcTemplate.execute("ALTER TABLE outbox_messages ADD CHECK (type IN (" +
+                    types.stream().map(type -> "'" + type + "'").collect(Collectors.joining(", ")) + "))");
+            log.info("发件箱消息类型约束已更新: {}", types);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.campus.lostfound.outbox;
+
+import com.campus.lostfound.dto.NotificationContent;
+import com.campus.lostfound.entity.Item;
+import com.campus.lostfound.entity.OutboxMessage;
+import com.campus.lostfound.entity.User;
+import com.campus.lostfound.repository.OutboxMessageRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 发件箱写入服务
+ * 必须在业务事务内调用，副作用随业务数据一起提交或回滚
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 写入一条发件箱消息；去重键已存在时忽略
+     * 单条 MERGE 判重并插入，并发重复只使该语句失败，不影响调用方事务
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(OutboxMessage.MessageType type, String dedupKey, Map<String, Object> payload) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int inserted;
+        try {
+            inserted = jdbcTemplate.update(OutboxMessageRepository.INSERT_IF_ABSENT_SQL,
+                    type.name(), dedupKey, toJson(payload), now, now, now);
+        } catch (DuplicateKeyException e) {
+            // 并发事务已写入同一键
+            inserted = 0;
+        }
+        if (inserted == 0) {
+            log.debug("发件箱消息已存在，忽略: {}", dedupKey);
+        }
+    }
+
+    /**
+     * 写入通知消息，内容在写入时确定
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueNotification(String dedupKey, User user, NotificationContent content) {
+        if (user == null) {
+            return;
+        }
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("userId", user.getId());
+        payload.put("type", content.getType().name());
+        payload.put("title", content.getTitle());
+        payload.put("content", content.getContent());
+        payload.put("relatedItemId", content.getRelatedItem() == null ? null : content.getRelatedItem().getId());
+        enqueue(OutboxMessage.MessageType.NOTIFICATION, dedupKey, payload);
+    }
+
+    /**
+     * 写入物品匹配消息
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueItemMatching(String dedupKey, Item item) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("itemId", item.getId());
+        enqueue(OutboxMessage.MessageType.ITEM_MATCHING, dedupKey, payload);
+    }
+
+    /**
+     * 写入观察者队列溢出的匹配事件，由发件箱补投给该观察者；同一事件可能多次溢出，每次单独写入
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueMatchEvent(String observer, String kind, Long matchId) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("observer", observer);
+        payload.put("kind", kind);
+        payload.put("matchId", matchId);
+        enqueue(OutboxMessage.MessageType.MATCH_EVENT,
+                "match-event:" + observer + ":" + kind + ":" + matchId + ":" + UUID.randomUUID(), payload);
+    }
+
+    private String toJson(Map<String, Object> payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("发件箱消息序列化失败", e);
+        }
+    }
+}
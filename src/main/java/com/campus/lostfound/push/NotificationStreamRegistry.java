@@ -0,0 +1,507 @@
+package com.campus.lostfound.push;
+
+import com.campus.lostfound.dto.NotificationMessage;
+import com.campus.lostfound.entity.Notification;
+import com.campus.lostfound.entity.User;
+import com.campus.lostfound.event.NotificationEvent;
+import com.campus.lostfound.repository.NotificationRepository;
+import com.campus.lostfound.service.ChatService;
+import com.campus.lostfound.service.NotificationService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 通知推送连接注册表（Server-Sent Events）
+ * 空闲连接只占一个异步请求，不占用处理线程。每个连接有自己的有界写出队列（补发、推送、心跳按提交顺序排队），
+ * 由写出线程池逐个连接排空，同一连接上不会并发写，也不会阻塞发布通知的业务事务；
+ * 写出队列溢出或单次写出超过时限的慢连接直接关闭，不拖住其他连接，浏览器随后带 Last-Event-ID 重连补发。
+ * 补发与未读数的数据库查询在独立的加载线程上执行，查完再交给连接的写出队列。
+ * 带 Last-Event-ID 重连时先从数据库补发错过的通知，补发完成前到达的实时通知先暂存，与补发结果合并后按ID写出，
+ * 之后按通知ID去重，保证同一连接上的通知按ID递增、不重复
+ */
+@Component
+@Slf4j
+public class NotificationStreamRegistry {
+
+    private static final int REPLAY_LIMIT = 100;
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationService notificationService;
+    private final ChatService chatService;
+    private final long timeoutMillis;
+    private final int maxConnectionsPerUser;
+    private final int connectionQueueCapacity;
+    private final long writeTimeoutNanos;
+    private final ThreadPoolExecutor writeExecutor;
+    private final ThreadPoolExecutor loadExecutor;
+
+    private final Map<Long, Deque<Connection>> connections = new ConcurrentHashMap<>();
+    private final AtomicLong opened = new AtomicLong();
+    private final AtomicLong pushed = new AtomicLong();
+    private final AtomicLong replayed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong overflowed = new AtomicLong();
+    private final AtomicLong slowClosed = new AtomicLong();
+    // 未读数加载序号，较早发起的查询晚返回时不覆盖较新的结果
+    private final AtomicLong unreadSequence = new AtomicLong();
+
+    public NotificationStreamRegistry(NotificationRepository notificationRepository,
+                                      NotificationService notificationService,
+                                      ChatService chatService,
+                                      @Value("${app.notifications.stream.timeout-ms:1800000}") long timeoutMillis,
+                                      @Value("${app.notifications.stream.max-connections-per-user:5}") int maxConnectionsPerUser,
+                                      @Value("${app.notifications.stream.queue-capacity:10000}") int queueCapacity,
+                                      @Value("${app.notifications.stream.loader-threads:2}") int loaderThreads,
+                                      @Value("${app.notifications.stream.writer-threads:4}") int writerThreads,
+                                      @Value("${app.notifications.stream.connection-queue-capacity:64}") int connectionQueueCapacity,
+                                      @Value("${app.notifications.stream.write-timeout-ms:10000}") long writeTimeoutMillis) {
+        this.notificationRepository = notificationRepository;
+        this.notificationService = notificationService;
+        this.chatService = chatService;
+        this.timeoutMillis = timeoutMillis;
+        this.maxConnectionsPerUser = Math.max(1, maxConnectionsPerUser);
+        this.connectionQueueCapacity = Math.max(1, connectionQueueCapacity);
+        this.writeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, writeTimeoutMillis));
+        int writers = Math.max(1, writerThreads);
+        AtomicLong writerIndex = new AtomicLong();
+        // 每个连接同时最多排一个排空任务，队列长度不超过连接数
+        this.writeExecutor = new ThreadPoolExecutor(writers, writers, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+                    Thread t = new Thread(r, "notification-push-" + writerIndex.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        int loaders = Math.max(1, loaderThreads);
+        AtomicLong loaderIndex = new AtomicLong();
+        this.loadExecutor = new ThreadPoolExecutor(loaders, loaders, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(Math.max(1, queueCapacity)), r -> {
+                    Thread t = new Thread(r, "notification-load-" + loaderIndex.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 建立推送连接；lastEventId 为浏览器重连时带回的最后一条通知ID
+     */
+    public SseEmitter subscribe(User user, String lastEventId) {
+        Long userId = user.getId();
+        Long replayAfter = parseEventId(lastEventId);
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Connection connection = new Connection(userId, emitter, replayAfter == null);
+        emitter.onCompletion(connection::close);
+        // 超时主动结束，浏览器随后自动重连
+        emitter.onTimeout(connection::close);
+        emitter.onError(e -> connection.close());
+
+        // 加入与移除都在 compute 中完成，不会加到刚被移除的空队列上
+        Deque<Connection> userConnections = connections.compute(userId, (id, existing) -> {
+            Deque<Connection> deque = existing != null ? existing : new ConcurrentLinkedDeque<>();
+            deque.addLast(connection);
+            return deque;
+        });
+        opened.incrementAndGet();
+        // 同一用户打开过多标签页时关闭最早的连接
+        while (userConnections.size() > maxConnectionsPerUser) {
+            Connection oldest = userConnections.pollFirst();
+            if (oldest == null) {
+                break;
+            }
+            oldest.close();
+        }
+
+        boolean loading = load(() -> {
+            List<Notification> missed;
+            long sequence;
+            Map<String, Long> unread;
+            try {
+                missed = replayAfter != null ? findMissed(userId, replayAfter) : List.of();
+                sequence = unreadSequence.incrementAndGet();
+                unread = unreadCounts(userId);
+            } catch (RuntimeException e) {
+                // 补发查询失败时不能一直停在补发状态，关闭后由浏览器重连重试
+                connection.close();
+                throw e;
+            }
+            connection.offer(() -> {
+                if (replayAfter != null) {
+                    replay(connection, replayAfter, missed);
+                }
+                connection.sendUnread(sequence, unread);
+            });
+        });
+        if (!loading) {
+            // 加载队列已满：关闭连接，浏览器稍后带 Last-Event-ID 重连
+            connection.close();
+        }
+        return emitter;
+    }
+
+    /**
+     * 通知写入或未读数变化（事务提交后）推送给该用户的所有连接
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotification(NotificationEvent event) {
+        Long userId = event.getUserId();
+        if (userId == null || !connections.containsKey(userId)) {
+            return;
+        }
+        NotificationMessage message = event.getMessage();
+        if (message != null) {
+            for (Connection connection : userConnections(userId)) {
+                connection.offer(() -> {
+                    if (!connection.ready) {
+                        // 补发未完成：暂存，补发时合并写出
+                        connection.held.add(message);
+                    } else if (connection.sendNotification(message)) {
+                        pushed.incrementAndGet();
+                    }
+                });
+            }
+        }
+        boolean loading = load(() -> {
+            long sequence = unreadSequence.incrementAndGet();
+            Map<String, Long> unread = unreadCounts(userId);
+            for (Connection connection : userConnections(userId)) {
+                connection.offer(() -> {
+                    // 补发未完成的连接由补发后的未读数覆盖
+                    if (connection.ready) {
+                        connection.sendUnread(sequence, unread);
+                    }
+                });
+            }
+        });
+        if (!loading) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * 定时心跳：防止代理因空闲断开，并及时清理已断开的连接
+     */
+    @Scheduled(fixedDelayString = "${app.notifications.stream.heartbeat-interval-ms:20000}",
+               initialDelayString = "${app.notifications.stream.heartbeat-interval-ms:20000}")
+    public void heartbeat() {
+        for (Deque<Connection> userConnections : connections.values()) {
+            for (Connection connection : userConnections) {
+                connection.offer(() -> connection.send(SseEmitter.event().comment("heartbeat")));
+            }
+        }
+    }
+
+    /**
+     * 定时检查写出时限：单次写出超时的连接直接关闭，不再排入新的写出；
+     * 阻塞中的写出由容器的写超时结束，期间只占用一个写出线程
+     */
+    @Scheduled(fixedDelayString = "${app.notifications.stream.write-check-interval-ms:2000}")
+    public void closeSlowConnections() {
+        long now = System.nanoTime();
+        for (Deque<Connection> userConnections : connections.values()) {
+            for (Connection connection : userConnections) {
+                long started = connection.writeStartedAt;
+                if (started != 0 && now - started > writeTimeoutNanos) {
+                    slowClosed.incrementAndGet();
+                    log.warn("用户 {} 的推送连接写出超时，已关闭", connection.userId);
+                    connection.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * 当前连接数与推送指标
+     */
+    public Map<String, Object> stats() {
+        int total = 0;
+        for (Deque<Connection> userConnections : connections.values()) {
+            total += userConnections.size();
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("users", connections.size());
+        stats.put("connections", total);
+        stats.put("opened", opened.get());
+        stats.put("pushed", pushed.get());
+        stats.put("replayed", replayed.get());
+        stats.put("dropped", dropped.get());
+        stats.put("overflowed", overflowed.get());
+        stats.put("slowClosed", slowClosed.get());
+        stats.put("activeWriters", writeExecutor.getActiveCount());
+        stats.put("queued", writeExecutor.getQueue().size());
+        stats.put("loading", loadExecutor.getQueue().size());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        loadExecutor.shutdownNow();
+        writeExecutor.shutdownNow();
+        for (Deque<Connection> userConnections : connections.values()) {
+            for (Connection connection : userConnections) {
+                connection.close();
+            }
+        }
+        connections.clear();
+    }
+
+    /**
+     * 加载线程上执行：查询重连期间错过的通知，按ID从旧到新
+     */
+    private List<Notification> findMissed(Long userId, Long afterId) {
+        User user = new User();
+        user.setId(userId); // 仅作键引用
+        List<Notification> missed = notificationRepository.findNewerThan(user, afterId, PageRequest.of(0, REPLAY_LIMIT));
+        // 查询为从新到旧，超出上限时只补发最近的部分
+        Collections.reverse(missed);
+        return missed;
+    }
+
+    /**
+     * 写出线程上执行：补发结果与补发期间暂存的实时通知合并，按ID写出后转为实时推送
+     */
+    private void replay(Connection connection, Long afterId, List<Notification> missed) {
+        List<NotificationMessage> messages = new ArrayList<>(missed.size() + connection.held.size());
+        for (Notification notification : missed) {
+            messages.add(NotificationMessage.of(notification));
+        }
+        messages.addAll(connection.held);
+        connection.held.clear();
+        messages.sort(Comparator.comparing(NotificationMessage::getId, Comparator.nullsFirst(Comparator.naturalOrder())));
+        connection.lastSentId = afterId;
+        for (NotificationMessage message : messages) {
+            if (connection.sendNotification(message)) {
+                replayed.incrementAndGet();
+            }
+        }
+        connection.ready = true;
+    }
+
+    private Iterable<Connection> userConnections(Long userId) {
+        Deque<Connection> userConnections = connections.get(userId);
+        return userConnections != null ? userConnections : List.of();
+    }
+
+    private Map<String, Long> unreadCounts(Long userId) {
+        User user = new User();
+        user.setId(userId); // 仅作键引用
+        Map<String, Long> unread = new LinkedHashMap<>();
+        unread.put("notifications", (long) notificationService.getUnreadCount(user));
+        unread.put("chats", chatService.getUnreadChatCount(user));
+        return unread;
+    }
+
+    /**
+     * 提交数据库查询到加载线程，队列已满时返回 false
+     */
+    private boolean load(Runnable task) {
+        try {
+            loadExecutor.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.warn("通知推送数据加载失败: {}", e.getMessage());
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private void remove(Connection connection) {
+        connections.computeIfPresent(connection.userId, (id, deque) -> {
+            deque.remove(connection);
+            return deque.isEmpty() ? null : deque;
+        });
+    }
+
+    private static Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 单个浏览器连接：写出任务排入自己的有界队列，同一时刻最多一个写出线程在排空，
+     * 以下字段除队列外只在排空任务中访问
+     */
+    private final class Connection {
+        final Long userId;
+        final SseEmitter emitter;
+        boolean ready;
+        long lastSentId;
+        long unreadSequence;
+        // 补发完成前到达的实时通知
+        final List<NotificationMessage> held = new ArrayList<>();
+
+        // 以下由连接自身加锁保护
+        private final Deque<Runnable> tasks = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+        // 当前写出的开始时间（System.nanoTime），0 表示未在写出
+        volatile long writeStartedAt;
+
+        Connection(Long userId, SseEmitter emitter, boolean ready) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.ready = ready;
+        }
+
+        /**
+         * 排入写出任务；队列已满说明浏览器读取跟不上，关闭连接
+         */
+        void offer(Runnable task) {
+            boolean overflow = false;
+            boolean schedule = false;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (tasks.size() >= connectionQueueCapacity) {
+                    overflow = true;
+                } else {
+                    tasks.addLast(task);
+                    schedule = !draining;
+                    draining = true;
+                }
+            }
+            if (overflow) {
+                overflowed.incrementAndGet();
+                log.warn("用户 {} 的推送连接写出队列已满，已关闭", userId);
+                close();
+            } else if (schedule) {
+                try {
+                    writeExecutor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // 已停止
+                    synchronized (this) {
+                        draining = false;
+                    }
+                    close();
+                }
+            }
+        }
+
+        /**
+         * 写出线程上执行：依次执行队列中的任务，连接关闭后结束异步请求
+         */
+        private void drain() {
+            while (true) {
+                Runnable task;
+                boolean finish = false;
+                synchronized (this) {
+                    if (closed) {
+                        task = null;
+                        finish = true;
+                        draining = false;
+                    } else {
+                        task = tasks.pollFirst();
+                        if (task == null) {
+                            draining = false;
+                            return;
+                        }
+                    }
+                }
+                if (finish) {
+                    complete();
+                    return;
+                }
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.warn("通知推送失败: {}", e.getMessage());
+                }
+            }
+        }
+
+        boolean sendNotification(NotificationMessage message) {
+            if (message.getId() == null || message.getId() <= lastSentId) {
+                return false;
+            }
+            if (!send(SseEmitter.event().id(message.getId().toString()).name("notification").data(message))) {
+                return false;
+            }
+            lastSentId = message.getId();
+            return true;
+        }
+
+        void sendUnread(long sequence, Map<String, Long> unread) {
+            if (sequence < unreadSequence) {
+                return;
+            }
+            if (send(SseEmitter.event().name("unread").data(unread))) {
+                unreadSequence = sequence;
+            }
+        }
+
+        boolean send(SseEmitter.SseEventBuilder event) {
+            writeStartedAt = System.nanoTime();
+            try {
+                emitter.send(event);
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                // 浏览器已断开
+                close();
+                return false;
+            } finally {
+                writeStartedAt = 0;
+            }
+        }
+
+        /**
+         * 关闭连接：丢弃未写出的任务并移出注册表；正在排空时由排空任务在写出结束后结束异步请求，
+         * 不与可能阻塞中的写出争用同一个 emitter
+         */
+        void close() {
+            boolean idle;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                tasks.clear();
+                idle = !draining;
+                draining = true;
+            }
+            remove(this);
+            if (idle) {
+                complete();
+            }
+        }
+
+        private void complete() {
+            try {
+                emitter.complete();
+            } catch (IllegalStateException ignored) {
+                // 已完成
+            }
+        }
+    }
+}
@@ -4,18 +4,38 @@ import com.campus.lostfound.entity.ChatMessage;
 import com.campus.lostfound.entity.ChatThread;
 import com.campus.lostfound.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
     List<ChatMessage> findByThreadOrderByCreatedAtAsc(ChatThread thread);
     List<ChatMessage> findByThreadAndSenderNotAndIsReadFalse(ChatThread thread, User sender);
-}
-
-
-
-
-
 
+    /**
+     * 用户参与的所有会话中对方发来的未读消息总数
+     */
+    @Query("SELECT COUNT(m) FROM ChatMessage m WHERE (m.thread.userA = :user OR m.thread.userB = :user) " +
+           "AND m.sender <> :user AND m.isRead = false")
+    long countUnreadForUser(@Param("user") User user);
+
+    /**
+     * 按会话分组统计对方发来的未读消息数，返回 [会话ID, 数量]
+     */
+    @Query("SELECT m.thread.id, COUNT(m) FROM ChatMessage m WHERE (m.thread.userA = :user OR m.thread.userB = :user) " +
+           "AND m.sender <> :user AND m.isRead = false GROUP BY m.thread.id")
+    List<Object[]> countUnreadByThread(@Param("user") User user);
+
+    /**
+     * 把会话中对方发来的未读消息标记为已读，返回更新条数
+     */
+    @Modifying
+    @Query("UPDATE ChatMessage m SET m.isRead = true, m.readAt = :now " +
+           "WHERE m.thread = :thread AND m.sender <> :user AND m.isRead = false")
+    int markThreadAsRead(@Param("thread") ChatThread thread, @Param("user") User user, @Param("now") LocalDateTime now);
+}
@@ -89,9 +89,4 @@ public interface ClaimRepository extends JpaRepository<Claim, Long> {
      */
     @Query("SELECT c FROM Claim c WHERE c.item = :item ORDER BY c.createdAt DESC")
     List<Claim> findItemClaims(@Param("item") Item item);
-
-    /** 删除与指定物品相关的所有认领记录 */
-    @org.springframework.data.jpa.repository.Modifying
-    @org.springframework.data.jpa.repository.Query("DELETE FROM Claim c WHERE c.item = :item")
-    int deleteByItem(@Param("item") Item item);
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 匹配记录数据访问层
@@ -35,6 +36,20 @@ public interface ItemMatchRepository extends JpaRepository<ItemMatch, Long> {
            "ORDER BY m.matchedAt DESC")
     List<ItemMatch> findByUser(@Param("user") User user);
     
+    /**
+     * 失物位于指定地点的活跃匹配的 (失物ID, 拾获ID) 对，用于批量重新匹配时跳过已有匹配
+     */
+    @Query("SELECT m.lostItem.id, m.foundItem.id FROM ItemMatch m " +
+           "WHERE m.status = 'ACTIVE' AND m.lostItem.location = :location")
+    List<Object[]> findActivePairsByLostLocation(@Param("location") com.campus.lostfound.entity.Location location);
+    
+    /**
+     * 查找用户相关的所有匹配记录，同时加载双方物品
+     */
+    @Query("SELECT m FROM ItemMatch m JOIN FETCH m.lostItem li JOIN FETCH m.foundItem fi " +
+           "WHERE li.owner = :user OR fi.owner = :user")
+    List<ItemMatch> findByUserFetchItems(@Param("user") User user);
+    
     /**
      * 根据用户和状态查找匹配记录
      */
@@ -57,13 +72,26 @@ public interface ItemMatchRepository extends JpaRepository<ItemMatch, Long> {
     List<ItemMatch> findExpiredMatches(@Param("expiryDate") LocalDateTime expiryDate);
     
     /**
-     * 检查两个物品是否已经匹配
+     * 活跃匹配不存在时插入（参数：失物ID、拾获ID、匹配对键、权重、匹配时间、创建时间、更新时间）
+     * 已存在时影响行数为 0；并发插入同一对时由唯一索引兜底，落败方抛出 DuplicateKeyException
+     */
+    String INSERT_ACTIVE_IF_ABSENT_SQL = "MERGE INTO item_matches t USING (SELECT CAST(? AS BIGINT) AS lost_id, " +
+            "CAST(? AS BIGINT) AS found_id, CAST(? AS VARCHAR(41)) AS pair_key) s ON (t.active_pair_key = s.pair_key) " +
+            "WHEN NOT MATCHED THEN INSERT (lost_item_id, found_item_id, match_weight, matched_at, status, " +
+            "active_pair_key, created_at, updated_at) VALUES (s.lost_id, s.found_id, ?, ?, 'ACTIVE', s.pair_key, ?, ?)";
+    
+    /**
+     * 按活跃匹配对键查找
+     */
+    Optional<ItemMatch> findByActivePairKey(String activePairKey);
+    
+    /**
+     * 一次查询获取与指定物品存在活跃匹配的所有对方物品ID
      */
-    @Query("SELECT COUNT(m) > 0 FROM ItemMatch m WHERE " +
-           "((m.lostItem = :item1 AND m.foundItem = :item2) OR " +
-           "(m.lostItem = :item2 AND m.foundItem = :item1)) " +
+    @Query("SELECT CASE WHEN m.lostItem.id = :itemId THEN m.foundItem.id ELSE m.lostItem.id END " +
+           "FROM ItemMatch m WHERE (m.lostItem.id = :itemId OR m.foundItem.id = :itemId) " +
            "AND m.status = 'ACTIVE'")
-    boolean existsMatchBetweenItems(@Param("item1") Item item1, @Param("item2") Item item2);
+    List<Long> findActivePartnerIds(@Param("itemId") Long itemId);
     
     /**
      * 获取两个物品之间的匹配记录（无序）
@@ -6,6 +6,7 @@ import com.campus.lostfound.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -44,11 +45,6 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
      */
     List<Item> findByStatus(Item.ItemStatus status);
     
-    /**
-     * 查找已审核的物品
-     */
-    Page<Item> findByApprovedTrueAndStatusNot(Item.ItemStatus status, Pageable pageable);
-    
     /**
      * 查找已审核的物品（保留原方法用于管理员查看）
      */
@@ -70,42 +66,49 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
     List<Item> findByOwnerAndApproved(User owner, Boolean approved);
     
     /**
-     * 搜索物品（按标题和描述）
+     * 最新发布列表的第一页（键集分页，按创建时间、ID 倒序）
      */
-    @Query("SELECT i FROM Item i WHERE " +
-           "i.approved = true AND i.status != 'COMPLETED' AND (" +
-           "LOWER(i.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(i.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(i.location) LIKE LOWER(CONCAT('%', :keyword, '%')))")
-    Page<Item> searchApprovedItems(@Param("keyword") String keyword, Pageable pageable);
+    @Query("SELECT i FROM Item i WHERE i.approved = true AND i.status <> 'COMPLETED' " +
+           "ORDER BY i.createdAt DESC, i.id DESC")
+    List<Item> findFeedFirst(Pageable limit);
     
     /**
-     * 高级搜索物品
+     * 最新发布列表中位于游标之后（更早发布）的一页
      */
-    @Query("SELECT i FROM Item i WHERE " +
-           "i.approved = true AND i.status != 'COMPLETED' AND " +
-           "(:postType IS NULL OR i.postType = :postType) AND " +
-           "(:category IS NULL OR i.category = :category) AND " +
-           "(:keyword IS NULL OR LOWER(i.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(i.description) LIKE LOWER(CONCAT('%', :keyword, '%')))")
-    Page<Item> advancedSearch(@Param("keyword") String keyword,
-                              @Param("postType") Item.PostType postType,
-                              @Param("category") Item.ItemCategory category,
-                              Pageable pageable);
+    @Query("SELECT i FROM Item i WHERE i.approved = true AND i.status <> 'COMPLETED' " +
+           "AND (i.createdAt < :createdAt OR (i.createdAt = :createdAt AND i.id < :id)) " +
+           "ORDER BY i.createdAt DESC, i.id DESC")
+    List<Item> findFeedOlderThan(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable limit);
     
     /**
-     * 查找最近的物品
+     * 最新发布列表中位于游标之前（更新发布）的一页，按正序返回
      */
-    @Query("SELECT i FROM Item i WHERE i.approved = true AND i.status != 'COMPLETED' ORDER BY i.createdAt DESC")
-    Page<Item> findRecentItems(Pageable pageable);
+    @Query("SELECT i FROM Item i WHERE i.approved = true AND i.status <> 'COMPLETED' " +
+           "AND (i.createdAt > :createdAt OR (i.createdAt = :createdAt AND i.id > :id)) " +
+           "ORDER BY i.createdAt ASC, i.id ASC")
+    List<Item> findFeedNewerThan(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable limit);
     
     /**
      * 查找热门物品（按认领数量）
      */
     @Query("SELECT i FROM Item i WHERE i.approved = true AND i.status != 'COMPLETED' AND i.postType = 'FOUND' " +
-           "ORDER BY SIZE(i.claims) DESC")
+           "ORDER BY i.claimCount DESC, i.id DESC")
     Page<Item> findPopularItems(Pageable pageable);
     
+    /**
+     * 认领申请数加一
+     */
+    @Modifying
+    @Query("UPDATE Item i SET i.claimCount = i.claimCount + 1 WHERE i.id = :id")
+    int incrementClaimCount(@Param("id") Long id);
+    
+    /**
+     * 认领申请数减一（不低于 0）
+     */
+    @Modifying
+    @Query("UPDATE Item i SET i.claimCount = i.claimCount - 1 WHERE i.id = :id AND i.claimCount > 0")
+    int decrementClaimCount(@Param("id") Long id);
+    
     /**
      * 统计物品数量
      */
@@ -166,6 +169,45 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
     List<Item> findCandidateItemsSince(@Param("postType") Item.PostType postType,
                                        @Param("since") LocalDateTime since);
 
+    /**
+     * 按ID顺序分批读取可被搜索到的物品：已审核且未完成（用于全文索引加载）
+     */
+    @Query("SELECT i FROM Item i WHERE i.approved = true AND i.status != 'COMPLETED' AND i.id > :lastId ORDER BY i.id ASC")
+    List<Item> findSearchableAfterId(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 按ID顺序分批读取全部已审核物品（用于枚举位图索引加载）
+     */
+    @Query("SELECT i FROM Item i WHERE i.approved = true AND i.id > :lastId ORDER BY i.id ASC")
+    List<Item> findApprovedAfterId(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 可被搜索到的物品的ID与最后修改时间（用于全文索引一致性检查）
+     */
+    @Query("SELECT i.id, i.updatedAt FROM Item i WHERE i.approved = true AND i.status != 'COMPLETED'")
+    List<Object[]> findSearchableVersions();
+
+    /**
+     * 按ID顺序分批读取指定状态的已审核物品（用于内存索引加载）
+     */
+    @Query("SELECT i FROM Item i WHERE i.approved = true AND i.status = :status AND i.id > :lastId ORDER BY i.id ASC")
+    List<Item> findActiveAfterId(@Param("status") Item.ItemStatus status,
+                                 @Param("lastId") Long lastId,
+                                 Pageable pageable);
+
+    /**
+     * 按ID顺序分批读取发布时间在 (createdAfter, createdUpTo] 内的待认领物品的权重字段
+     */
+    @Query("SELECT new com.campus.lostfound.dto.ItemWeightInput(i.id, i.location, i.detailedLocation, " +
+           "i.category, i.createdAt, i.totalWeight) FROM Item i WHERE " +
+           "i.approved = true AND i.status = 'PENDING_CLAIM' AND " +
+           "i.createdAt > :createdAfter AND i.createdAt <= :createdUpTo AND i.id > :lastId " +
+           "ORDER BY i.id ASC")
+    List<com.campus.lostfound.dto.ItemWeightInput> findWeightInputsAfterId(@Param("createdAfter") LocalDateTime createdAfter,
+                                                                          @Param("createdUpTo") LocalDateTime createdUpTo,
+                                                                          @Param("lastId") Long lastId,
+                                                                          Pageable pageable);
+
     /**
      * 统计已完成物品数量
      */
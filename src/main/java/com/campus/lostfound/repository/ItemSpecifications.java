@@ -0,0 +1,89 @@
+package com.campus.lostfound.repository;
+
+import com.campus.lostfound.entity.DetailedLocation;
+import com.campus.lostfound.entity.Item;
+import com.campus.lostfound.entity.Location;
+import com.campus.lostfound.search.ItemEnumFilter;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 物品查询条件，可用 and/or 自由组合后交给查询服务在数据库端执行
+ */
+public final class ItemSpecifications {
+
+    private ItemSpecifications() {
+    }
+
+    /**
+     * 已审核通过
+     */
+    public static Specification<Item> approved() {
+        return (root, query, cb) -> cb.isTrue(root.get("approved"));
+    }
+
+    /**
+     * 枚举列组合条件：同一维度内为“或”，不同维度之间为“且”
+     */
+    public static Specification<Item> matches(ItemEnumFilter filter) {
+        return (root, query, cb) -> {
+            if (filter == null) {
+                return null;
+            }
+            List<Predicate> predicates = new ArrayList<>();
+            addIn(predicates, root.get("postType"), filter.getPostTypes());
+            addIn(predicates, root.get("category"), filter.getCategories());
+            addIn(predicates, root.get("location"), filter.getLocations());
+            addIn(predicates, root.get("detailedLocation"), filter.getDetailedLocations());
+            addIn(predicates, root.get("status"), filter.getStatuses());
+            return predicates.isEmpty() ? null : cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * 关键词：匹配标题、描述，或描述中包含关键词的地点
+     * 地点以枚举存储，先在内存中把关键词换算成地点取值，再用 IN 条件下推
+     */
+    public static Specification<Item> keyword(String keyword) {
+        return (root, query, cb) -> {
+            if (keyword == null || keyword.isBlank()) {
+                return null;
+            }
+            String lower = keyword.trim().toLowerCase(Locale.ROOT);
+            String pattern = "%" + escapeLike(lower) + "%";
+            List<Predicate> any = new ArrayList<>();
+            any.add(cb.like(cb.lower(root.get("title")), pattern, '\\'));
+            any.add(cb.like(cb.lower(root.get("description")), pattern, '\\'));
+            List<Location> locations = Arrays.stream(Location.values())
+                    .filter(l -> l.getDescription().toLowerCase(Locale.ROOT).contains(lower))
+                    .toList();
+            if (!locations.isEmpty()) {
+                any.add(root.get("location").in(locations));
+            }
+            List<DetailedLocation> detailedLocations = Arrays.stream(DetailedLocation.values())
+                    .filter(l -> l.getDescription().toLowerCase(Locale.ROOT).contains(lower))
+                    .toList();
+            if (!detailedLocations.isEmpty()) {
+                any.add(root.get("detailedLocation").in(detailedLocations));
+            }
+            return cb.or(any.toArray(new Predicate[0]));
+        };
+    }
+
+    private static void addIn(List<Predicate> predicates, jakarta.persistence.criteria.Path<?> path,
+                              Collection<?> values) {
+        if (values != null && !values.isEmpty()) {
+            predicates.add(path.in(values));
+        }
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
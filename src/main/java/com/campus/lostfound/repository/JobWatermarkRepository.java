@@ -0,0 +1,12 @@
+package com.campus.lostfound.repository;
+
+import com.campus.lostfound.entity.JobWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 定时任务水位数据访问层
+ */
+@Repository
+public interface JobWatermarkRepository extends JpaRepository<JobWatermark, String> {
+}
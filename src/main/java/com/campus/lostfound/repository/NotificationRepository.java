@@ -49,6 +49,12 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Query("SELECT COUNT(n) FROM Notification n WHERE n.user = :user AND n.isRead = false")
     long countUnreadByUser(@Param("user") User user);
 
+    /**
+     * 用户在指定通知ID之后的新通知（从新到旧），用于推送断线重连后的补发
+     */
+    @Query("SELECT n FROM Notification n WHERE n.user = :user AND n.id > :afterId ORDER BY n.id DESC")
+    List<Notification> findNewerThan(@Param("user") User user, @Param("afterId") Long afterId, Pageable pageable);
+
     /**
      * 将用户的所有通知标记为已读
      */
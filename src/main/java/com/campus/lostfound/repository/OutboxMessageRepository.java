@@ -0,0 +1,50 @@
+package com.campus.lostfound.repository;
+
+import com.campus.lostfound.entity.OutboxMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    /**
+     * 去重键不存在时插入待投递消息（参数：类型、去重键、内容、可投递时间、创建时间、更新时间）
+     * 已存在时影响行数为 0；并发写入同一键时由唯一约束兜底，落败方抛出 DuplicateKeyException
+     */
+    String INSERT_IF_ABSENT_SQL = "MERGE INTO outbox_messages t USING (SELECT CAST(? AS VARCHAR(32)) AS type, " +
+            "CAST(? AS VARCHAR(200)) AS dedup_key) s ON (t.dedup_key = s.dedup_key) " +
+            "WHEN NOT MATCHED THEN INSERT (type, dedup_key, payload, status, attempts, available_at, created_at, updated_at) " +
+            "VALUES (s.type, s.dedup_key, ?, 'PENDING', 0, ?, ?, ?)";
+
+    /**
+     * 已到期的待投递消息ID，按写入顺序
+     */
+    @Query("SELECT m.id FROM OutboxMessage m WHERE m.status = :status AND m.availableAt <= :now ORDER BY m.id")
+    List<Long> findDueIds(@Param("status") OutboxMessage.Status status,
+                          @Param("now") LocalDateTime now,
+                          Pageable pageable);
+
+    long countByStatus(OutboxMessage.Status status);
+
+    /**
+     * 将失败消息重新置为待投递
+     */
+    @Modifying
+    @Query("UPDATE OutboxMessage m SET m.status = 'PENDING', m.attempts = 0, m.availableAt = :now, m.lastError = null " +
+           "WHERE m.status = 'FAILED' AND (:id IS NULL OR m.id = :id)")
+    int replayFailed(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * 清理已投递且超过保留期的消息
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxMessage m WHERE m.status = 'DONE' AND m.processedAt < :before")
+    int deleteDoneBefore(@Param("before") LocalDateTime before);
+}
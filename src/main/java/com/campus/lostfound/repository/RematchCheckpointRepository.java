@@ -0,0 +1,13 @@
+package com.campus.lostfound.repository;
+
+import com.campus.lostfound.entity.RematchCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface RematchCheckpointRepository extends JpaRepository<RematchCheckpoint, Long> {
+
+    List<RematchCheckpoint> findByRunId(Long runId);
+}
@@ -0,0 +1,16 @@
+package com.campus.lostfound.repository;
+
+import com.campus.lostfound.entity.RematchRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface RematchRunRepository extends JpaRepository<RematchRun, Long> {
+
+    /**
+     * 最近一次重新匹配任务
+     */
+    Optional<RematchRun> findTopByOrderByIdDesc();
+}
@@ -0,0 +1,24 @@
+package com.campus.lostfound.repository;
+
+import com.campus.lostfound.entity.StatCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 统计计数器数据访问层
+ */
+@Repository
+public interface StatCounterRepository extends JpaRepository<StatCounter, String> {
+
+    /**
+     * 原子累加增量
+     */
+    @Modifying
+    @Query("UPDATE StatCounter c SET c.value = c.value + :delta, c.updatedAt = :now WHERE c.name = :name")
+    int increment(@Param("name") String name, @Param("delta") long delta, @Param("now") LocalDateTime now);
+}
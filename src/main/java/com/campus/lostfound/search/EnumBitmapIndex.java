@@ -0,0 +1,265 @@
+package com.campus.lostfound.search;
+
+import com.campus.lostfound.dto.ItemCounts;
+import com.campus.lostfound.entity.DetailedLocation;
+import com.campus.lostfound.entity.Item;
+import com.campus.lostfound.entity.Location;
+import com.campus.lostfound.event.ItemLifecycleEvent;
+import com.campus.lostfound.repository.ItemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 枚举列位图索引
+ * 对已审核物品的发布类型、类别、地点、详细地点、状态，每个取值维护一个 Roaring 压缩位图（元素为物品ID），
+ * 任意组合筛选通过位图与/或求出，分面计数与结果总数直接由位图基数得到，无需查询数据库。
+ * 启动时全量加载，之后随物品生命周期事件（事务提交后）增量维护；假定物品ID不超过 int 范围
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EnumBitmapIndex {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    /**
+     * 位图维度
+     */
+    public enum Dimension {
+        POST_TYPE(Item.PostType.values()),
+        CATEGORY(Item.ItemCategory.values()),
+        LOCATION(Location.values()),
+        DETAILED_LOCATION(DetailedLocation.values()),
+        STATUS(Item.ItemStatus.values());
+
+        private final Enum<?>[] enumValues;
+
+        Dimension(Enum<?>[] enumValues) {
+            this.enumValues = enumValues;
+        }
+
+        public Enum<?>[] getEnumValues() {
+            return enumValues;
+        }
+    }
+
+    private final ItemRepository itemRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 全部已审核物品
+    private final RoaringBitmap all = new RoaringBitmap();
+    // 维度 -> 取值序号 -> 位图
+    private final Map<Dimension, RoaringBitmap[]> bitmaps = newBitmaps();
+
+    private static Map<Dimension, RoaringBitmap[]> newBitmaps() {
+        Map<Dimension, RoaringBitmap[]> map = new EnumMap<>(Dimension.class);
+        for (Dimension dimension : Dimension.values()) {
+            RoaringBitmap[] perValue = new RoaringBitmap[dimension.enumValues.length];
+            for (int i = 0; i < perValue.length; i++) {
+                perValue[i] = new RoaringBitmap();
+            }
+            map.put(dimension, perValue);
+        }
+        return map;
+    }
+
+    /**
+     * 应用启动完成后全量加载
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            all.clear();
+            bitmaps.values().forEach(perValue -> {
+                for (RoaringBitmap bitmap : perValue) {
+                    bitmap.clear();
+                }
+            });
+            long lastId = 0L;
+            while (true) {
+                List<Item> batch = itemRepository.findApprovedAfterId(lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                for (Item item : batch) {
+                    add(item);
+                    lastId = item.getId();
+                }
+            }
+            all.runOptimize();
+            bitmaps.values().forEach(perValue -> {
+                for (RoaringBitmap bitmap : perValue) {
+                    bitmap.runOptimize();
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("枚举位图索引加载完成，共 {} 个物品", all.getCardinality());
+    }
+
+    /**
+     * 物品生命周期变化后（事务提交后）增量维护：已审核物品按当前取值入位图，其余移除
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemLifecycle(ItemLifecycleEvent event) {
+        Item item = event.getItem();
+        lock.writeLock().lock();
+        try {
+            remove(toInt(item.getId()));
+            if (!event.isDeleted() && Boolean.TRUE.equals(item.getApproved())) {
+                add(item);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void add(Item item) {
+        int id = toInt(item.getId());
+        all.add(id);
+        addTo(Dimension.POST_TYPE, item.getPostType(), id);
+        addTo(Dimension.CATEGORY, item.getCategory(), id);
+        addTo(Dimension.LOCATION, item.getLocation(), id);
+        addTo(Dimension.DETAILED_LOCATION, item.getDetailedLocation(), id);
+        addTo(Dimension.STATUS, item.getStatus(), id);
+    }
+
+    private void addTo(Dimension dimension, Enum<?> value, int id) {
+        if (value != null) {
+            bitmaps.get(dimension)[value.ordinal()].add(id);
+        }
+    }
+
+    private void remove(int id) {
+        if (!all.checkedRemove(id)) {
+            return;
+        }
+        for (RoaringBitmap[] perValue : bitmaps.values()) {
+            for (RoaringBitmap bitmap : perValue) {
+                bitmap.remove(id);
+            }
+        }
+    }
+
+    /**
+     * 按条件求出匹配的物品ID位图（返回副本，调用方可自由修改）
+     */
+    public RoaringBitmap match(ItemEnumFilter filter) {
+        lock.readLock().lock();
+        try {
+            return matchExcluding(filter, null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 匹配结果数
+     */
+    public int count(ItemEnumFilter filter) {
+        return match(filter).getCardinality();
+    }
+
+    /**
+     * 匹配结果按发布类型、状态分组的数量
+     */
+    public ItemCounts counts(ItemEnumFilter filter) {
+        ItemCounts counts = new ItemCounts();
+        lock.readLock().lock();
+        try {
+            RoaringBitmap base = matchExcluding(filter, null);
+            RoaringBitmap[] postTypes = bitmaps.get(Dimension.POST_TYPE);
+            RoaringBitmap[] statuses = bitmaps.get(Dimension.STATUS);
+            for (Item.PostType postType : Item.PostType.values()) {
+                RoaringBitmap ofType = RoaringBitmap.and(base, postTypes[postType.ordinal()]);
+                for (Item.ItemStatus status : Item.ItemStatus.values()) {
+                    int count = RoaringBitmap.andCardinality(ofType, statuses[status.ordinal()]);
+                    if (count > 0) {
+                        counts.add(postType, status, count);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return counts;
+    }
+
+    /**
+     * 各维度每个取值的分面计数；某一维度的计数忽略该维度自身的条件，选中一个取值后其余取值的计数不会变为 0
+     */
+    public Map<Dimension, int[]> facets(ItemEnumFilter filter) {
+        Map<Dimension, int[]> facets = new EnumMap<>(Dimension.class);
+        lock.readLock().lock();
+        try {
+            for (Dimension dimension : Dimension.values()) {
+                RoaringBitmap base = matchExcluding(filter, dimension);
+                RoaringBitmap[] perValue = bitmaps.get(dimension);
+                int[] counts = new int[perValue.length];
+                for (int i = 0; i < perValue.length; i++) {
+                    counts[i] = RoaringBitmap.andCardinality(perValue[i], base);
+                }
+                facets.put(dimension, counts);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return facets;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return all.getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap matchExcluding(ItemEnumFilter filter, Dimension excluded) {
+        RoaringBitmap result = all.clone();
+        if (filter == null) {
+            return result;
+        }
+        and(result, Dimension.POST_TYPE, filter.getPostTypes(), excluded);
+        and(result, Dimension.CATEGORY, filter.getCategories(), excluded);
+        and(result, Dimension.LOCATION, filter.getLocations(), excluded);
+        and(result, Dimension.DETAILED_LOCATION, filter.getDetailedLocations(), excluded);
+        and(result, Dimension.STATUS, filter.getStatuses(), excluded);
+        return result;
+    }
+
+    private void and(RoaringBitmap result, Dimension dimension, Set<? extends Enum<?>> values, Dimension excluded) {
+        if (values == null || values.isEmpty() || dimension == excluded) {
+            return;
+        }
+        RoaringBitmap[] perValue = bitmaps.get(dimension);
+        if (values.size() == 1) {
+            result.and(perValue[values.iterator().next().ordinal()]);
+            return;
+        }
+        RoaringBitmap union = new RoaringBitmap();
+        for (Enum<?> value : values) {
+            union.or(perValue[value.ordinal()]);
+        }
+        result.and(union);
+    }
+
+    private static int toInt(Long id) {
+        return Math.toIntExact(id);
+    }
+}
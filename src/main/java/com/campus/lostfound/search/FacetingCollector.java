@@ -0,0 +1,126 @@
+package com.campus.lostfound.search;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.FilterLeafCollector;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.ScoreMode;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 一次遍历命中文档完成筛选与分面计数
+ * 关键词命中的每个文档读取各维度的取值序号：满足全部条件的交给排序收集器并计入各维度；
+ * 只有一个维度不满足的只计入该维度，使该维度的计数忽略自身条件（选中一个取值后仍能看到其他取值的数量）
+ */
+final class FacetingCollector implements Collector {
+
+    private static final EnumBitmapIndex.Dimension[] DIMENSIONS = EnumBitmapIndex.Dimension.values();
+
+    private final Collector delegate;
+    private final String[] fields;
+    // 维度 -> 允许的取值；null 表示不限
+    private final boolean[][] allowed;
+    private final int[][] counts;
+    private int totalHits;
+
+    FacetingCollector(Collector delegate, Map<EnumBitmapIndex.Dimension, String> fields, ItemEnumFilter filter) {
+        this.delegate = delegate;
+        this.fields = new String[DIMENSIONS.length];
+        this.allowed = new boolean[DIMENSIONS.length][];
+        this.counts = new int[DIMENSIONS.length][];
+        for (EnumBitmapIndex.Dimension dimension : DIMENSIONS) {
+            int d = dimension.ordinal();
+            this.fields[d] = fields.get(dimension);
+            this.counts[d] = new int[dimension.getEnumValues().length];
+            this.allowed[d] = toAllowed(dimension, selected(filter, dimension));
+        }
+    }
+
+    private static Set<? extends Enum<?>> selected(ItemEnumFilter filter, EnumBitmapIndex.Dimension dimension) {
+        if (filter == null) {
+            return null;
+        }
+        switch (dimension) {
+            case POST_TYPE:
+                return filter.getPostTypes();
+            case CATEGORY:
+                return filter.getCategories();
+            case LOCATION:
+                return filter.getLocations();
+            case DETAILED_LOCATION:
+                return filter.getDetailedLocations();
+            case STATUS:
+                return filter.getStatuses();
+            default:
+                return null;
+        }
+    }
+
+    private static boolean[] toAllowed(EnumBitmapIndex.Dimension dimension, Set<? extends Enum<?>> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        boolean[] allowed = new boolean[dimension.getEnumValues().length];
+        for (Enum<?> value : values) {
+            allowed[value.ordinal()] = true;
+        }
+        return allowed;
+    }
+
+    int getTotalHits() {
+        return totalHits;
+    }
+
+    Map<EnumBitmapIndex.Dimension, int[]> getFacets() {
+        Map<EnumBitmapIndex.Dimension, int[]> facets = new EnumMap<>(EnumBitmapIndex.Dimension.class);
+        for (EnumBitmapIndex.Dimension dimension : DIMENSIONS) {
+            facets.put(dimension, counts[dimension.ordinal()]);
+        }
+        return facets;
+    }
+
+    @Override
+    public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+        NumericDocValues[] values = new NumericDocValues[fields.length];
+        for (int d = 0; d < fields.length; d++) {
+            values[d] = context.reader().getNumericDocValues(fields[d]);
+        }
+        int[] ordinals = new int[fields.length];
+        return new FilterLeafCollector(delegate.getLeafCollector(context)) {
+            @Override
+            public void collect(int doc) throws IOException {
+                int failing = -1;
+                int failures = 0;
+                for (int d = 0; d < ordinals.length; d++) {
+                    ordinals[d] = values[d] != null && values[d].advanceExact(doc) ? (int) values[d].longValue() : -1;
+                    if (allowed[d] != null && (ordinals[d] < 0 || !allowed[d][ordinals[d]])) {
+                        failures++;
+                        failing = d;
+                    }
+                }
+                if (failures == 0) {
+                    for (int d = 0; d < ordinals.length; d++) {
+                        if (ordinals[d] >= 0) {
+                            counts[d][ordinals[d]]++;
+                        }
+                    }
+                    totalHits++;
+                    in.collect(doc);
+                } else if (failures == 1 && ordinals[failing] >= 0) {
+                    counts[failing][ordinals[failing]]++;
+                }
+            }
+        };
+    }
+
+    @Override
+    public ScoreMode scoreMode() {
+        // 必须遍历全部命中文档，不能让排序收集器跳过低分文档
+        return ScoreMode.COMPLETE;
+    }
+}
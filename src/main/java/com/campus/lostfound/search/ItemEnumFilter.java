@@ -0,0 +1,58 @@
+package com.campus.lostfound.search;
+
+import com.campus.lostfound.entity.DetailedLocation;
+import com.campus.lostfound.entity.Item;
+import com.campus.lostfound.entity.Location;
+import lombok.Data;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 枚举列组合筛选条件
+ * 同一维度内的多个取值为“或”，不同维度之间为“且”；为空表示该维度不限
+ */
+@Data
+public class ItemEnumFilter {
+
+    private Set<Item.PostType> postTypes = EnumSet.noneOf(Item.PostType.class);
+    private Set<Item.ItemCategory> categories = EnumSet.noneOf(Item.ItemCategory.class);
+    private Set<Location> locations = EnumSet.noneOf(Location.class);
+    private Set<DetailedLocation> detailedLocations = EnumSet.noneOf(DetailedLocation.class);
+    private Set<Item.ItemStatus> statuses = EnumSet.noneOf(Item.ItemStatus.class);
+
+    public ItemEnumFilter postType(Item.PostType postType) {
+        if (postType != null) {
+            postTypes.add(postType);
+        }
+        return this;
+    }
+
+    public ItemEnumFilter category(Item.ItemCategory category) {
+        if (category != null) {
+            categories.add(category);
+        }
+        return this;
+    }
+
+    public ItemEnumFilter location(Location location) {
+        if (location != null) {
+            locations.add(location);
+        }
+        return this;
+    }
+
+    public ItemEnumFilter detailedLocation(DetailedLocation detailedLocation) {
+        if (detailedLocation != null) {
+            detailedLocations.add(detailedLocation);
+        }
+        return this;
+    }
+
+    public ItemEnumFilter status(Item.ItemStatus status) {
+        if (status != null) {
+            statuses.add(status);
+        }
+        return this;
+    }
+}
@@ -0,0 +1,586 @@
+package com.campus.lostfound.search;
+
+import com.campus.lostfound.entity.Item;
+import com.campus.lostfound.event.ItemLifecycleEvent;
+import com.campus.lostfound.repository.ItemRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.cjk.CJKBigramFilter;
+import org.apache.lucene.analysis.cjk.CJKWidthFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopFieldCollector;
+import org.apache.lucene.search.similarities.BM25Similarity;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 物品全文索引
+ * 常驻内存的 Lucene 倒排索引，收录已审核且未完成的物品；中文按二元组（同时保留单字）切分，BM25 排序。
+ * 启动时全量加载，之后随物品生命周期事件（事务提交后）增量更新，后台线程按亚秒间隔刷新可见性；
+ * 全量重建在新索引上进行，期间的增量变更同时记入回放队列，完成后在写锁内回放并原子切换；
+ * 一致性检查对比 items 表与索引中的ID和修改时间，可选择就地修复
+ */
+@Component
+@Slf4j
+public class ItemSearchIndex {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+    private static final String LOCATION = "location";
+    private static final String POST_TYPE = "postTypeOrd";
+    private static final String CATEGORY = "categoryOrd";
+    private static final String LOCATION_ORD = "locationOrd";
+    private static final String DETAILED_LOCATION_ORD = "detailedLocationOrd";
+    private static final String STATUS_ORD = "statusOrd";
+    // 分面维度 -> 保存取值序号的 DocValues 字段
+    private static final Map<EnumBitmapIndex.Dimension, String> FACET_FIELDS = Map.of(
+            EnumBitmapIndex.Dimension.POST_TYPE, POST_TYPE,
+            EnumBitmapIndex.Dimension.CATEGORY, CATEGORY,
+            EnumBitmapIndex.Dimension.LOCATION, LOCATION_ORD,
+            EnumBitmapIndex.Dimension.DETAILED_LOCATION, DETAILED_LOCATION_ORD,
+            EnumBitmapIndex.Dimension.STATUS, STATUS_ORD);
+    private static final String CREATED_AT = "createdAt";
+    private static final String ID_VALUE = "idValue";
+    private static final String UPDATED_AT = "updatedAt";
+    private static final int DRIFT_SAMPLE_SIZE = 10;
+
+    // 标题命中权重最高，其次描述、地点
+    private static final String[] TEXT_FIELDS = {TITLE, DESCRIPTION, LOCATION};
+    private static final float[] FIELD_BOOSTS = {3f, 1f, 1f};
+    private static final float PHRASE_BOOST = 2f;
+    private static final float MIN_SHOULD_MATCH = 0.75f;
+    // 关键词最多取前若干字符，限制查询子句数量
+    static final int MAX_KEYWORD_LENGTH = 64;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final Sort SCORE_THEN_NEWEST = new Sort(SortField.FIELD_SCORE,
+            new SortField(CREATED_AT, SortField.Type.LONG, true));
+
+    private final ItemRepository itemRepository;
+    private final Analyzer analyzer = new CjkBigramAnalyzer();
+    private final double refreshSeconds;
+    private final boolean driftRepair;
+
+    // 当前对外提供检索的索引；重建完成后整体替换
+    private volatile IndexState state;
+    // 重建期间记录的增量变更，重建结束后回放到新索引；未在重建时为 null
+    private volatile Queue<PendingChange> pending;
+    // 增量写入持读锁，切换索引持写锁
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private volatile LocalDateTime lastRebuildAt;
+    private volatile long lastRebuildMillis;
+    private volatile Map<String, Object> lastDriftReport;
+
+    public ItemSearchIndex(ItemRepository itemRepository,
+                           @Value("${app.search.refresh-interval-ms:200}") long refreshIntervalMillis,
+                           @Value("${app.search.drift-check.repair:true}") boolean driftRepair) {
+        this.itemRepository = itemRepository;
+        this.refreshSeconds = Math.max(10, refreshIntervalMillis) / 1000.0;
+        this.driftRepair = driftRepair;
+        this.state = IndexState.open(analyzer, refreshSeconds);
+    }
+
+    /**
+     * 应用启动完成后全量加载
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 在后台线程中全量重建，已有重建在进行时返回 false
+     */
+    public boolean rebuildAsync() {
+        if (rebuilding.get()) {
+            return false;
+        }
+        Thread thread = new Thread(this::rebuild, "search-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+        return true;
+    }
+
+    /**
+     * 全量重建：在新索引上加载全部可搜索物品，回放期间的增量变更后原子切换
+     */
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.info("全文索引正在重建，忽略本次请求");
+            return;
+        }
+        long start = System.currentTimeMillis();
+        IndexState next = IndexState.open(analyzer, refreshSeconds);
+        pending = new ConcurrentLinkedQueue<>();
+        try {
+            long lastId = 0L;
+            int loaded = 0;
+            while (true) {
+                List<Item> batch = itemRepository.findSearchableAfterId(lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                for (Item item : batch) {
+                    next.writer.addDocument(toDocument(item));
+                    lastId = item.getId();
+                }
+                loaded += batch.size();
+            }
+            IndexState previous;
+            swapLock.writeLock().lock();
+            try {
+                for (PendingChange change : pending) {
+                    apply(next, change.itemId, change.document);
+                }
+                pending = null;
+                next.manager.maybeRefreshBlocking();
+                previous = state;
+                state = next;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+            previous.close();
+            lastRebuildAt = LocalDateTime.now();
+            lastRebuildMillis = System.currentTimeMillis() - start;
+            log.info("全文索引重建完成，共 {} 个物品，耗时 {} ms", loaded, lastRebuildMillis);
+        } catch (Exception e) {
+            pending = null;
+            next.close();
+            log.error("全文索引重建失败: {}", e.getMessage(), e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 物品生命周期变化后（事务提交后）增量维护索引，由刷新线程在亚秒内变为可见
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemLifecycle(ItemLifecycleEvent event) {
+        Item item = event.getItem();
+        Document document = event.isDeleted() || !isSearchable(item) ? null : toDocument(item);
+        swapLock.readLock().lock();
+        try {
+            apply(state, item.getId(), document);
+            Queue<PendingChange> replay = pending;
+            if (replay != null) {
+                replay.add(new PendingChange(item.getId(), document));
+            }
+        } catch (IOException e) {
+            log.error("更新全文索引失败: {}", e.getMessage(), e);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private static void apply(IndexState target, Long itemId, Document document) throws IOException {
+        Term idTerm = new Term(ID, String.valueOf(itemId));
+        if (document == null) {
+            target.writer.deleteDocuments(idTerm);
+        } else {
+            target.writer.updateDocument(idTerm, document);
+        }
+    }
+
+    /**
+     * 按关键词检索：一次遍历命中文档，同时完成枚举条件筛选、排序取当前页（物品ID）和各维度的分面计数
+     */
+    public SearchResult<Long> search(String keyword, ItemEnumFilter filter, Pageable pageable) {
+        Query query = buildQuery(keyword);
+        if (query == null) {
+            return new SearchResult<>(Page.empty(pageable), null);
+        }
+        // 持有取到的索引引用，切换后仍向原索引归还搜索器
+        IndexState current = state;
+        IndexSearcher searcher = null;
+        try {
+            searcher = current.manager.acquire();
+            long offset = pageable.getOffset();
+            int pageSize = Math.max(1, Math.min(pageable.getPageSize(), MAX_PAGE_SIZE));
+            // 排序收集器按保留条数预分配，命中数不会超过文档总数，超大页码不会按页码分配
+            int numHits = (int) Math.max(1, Math.min(offset + pageSize, searcher.getIndexReader().maxDoc()));
+            // 总数由分面收集器统计，排序收集器不提前终止
+            TopFieldCollector top = TopFieldCollector.create(SCORE_THEN_NEWEST, numHits, Integer.MAX_VALUE);
+            FacetingCollector collector = new FacetingCollector(top, FACET_FIELDS, filter);
+            searcher.search(query, collector);
+            ScoreDoc[] hits = top.topDocs().scoreDocs;
+            List<Long> ids = new ArrayList<>();
+            // 页码超出命中总数时返回空页（仍带总数与分面）
+            if (offset < hits.length) {
+                int to = (int) Math.min(hits.length, offset + pageSize);
+                for (int i = (int) offset; i < to; i++) {
+                    ids.add(Long.parseLong(searcher.storedFields().document(hits[i].doc).get(ID)));
+                }
+            }
+            return new SearchResult<>(new PageImpl<>(ids, pageable, collector.getTotalHits()), collector.getFacets());
+        } catch (IOException e) {
+            throw new RuntimeException("全文检索失败", e);
+        } finally {
+            if (searcher != null) {
+                try {
+                    current.manager.release(searcher);
+                } catch (IOException e) {
+                    log.warn("释放索引搜索器失败: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 定期一致性检查
+     */
+    @Scheduled(initialDelayString = "${app.search.drift-check.initial-delay-ms:300000}",
+               fixedDelayString = "${app.search.drift-check.interval-ms:600000}")
+    public void scheduledDriftCheck() {
+        if (!rebuilding.get()) {
+            checkDrift(driftRepair);
+        }
+    }
+
+    /**
+     * 对比 items 表与索引：缺失（应在索引中却不在）、多余（不应在索引中）、过期（修改时间不一致）；
+     * repair 为 true 时按数据库当前状态重新索引这些物品
+     */
+    public Map<String, Object> checkDrift(boolean repair) {
+        Map<Long, Long> indexed;
+        IndexState current = state;
+        IndexSearcher searcher = null;
+        try {
+            current.manager.maybeRefreshBlocking();
+            searcher = current.manager.acquire();
+            indexed = indexedVersions(searcher);
+        } catch (IOException e) {
+            throw new RuntimeException("读取全文索引失败", e);
+        } finally {
+            if (searcher != null) {
+                try {
+                    current.manager.release(searcher);
+                } catch (IOException e) {
+                    log.warn("释放索引搜索器失败: {}", e.getMessage());
+                }
+            }
+        }
+
+        List<Long> missing = new ArrayList<>();
+        List<Long> outdated = new ArrayList<>();
+        List<Object[]> versions = itemRepository.findSearchableVersions();
+        for (Object[] row : versions) {
+            Long id = (Long) row[0];
+            Long indexedVersion = indexed.remove(id);
+            if (indexedVersion == null) {
+                missing.add(id);
+            } else if (Math.abs(indexedVersion - epochMillis((LocalDateTime) row[1])) > 1) {
+                // 数据库时间戳为微秒精度，允许 1 ms 的舍入误差
+                outdated.add(id);
+            }
+        }
+        List<Long> stale = new ArrayList<>(indexed.keySet());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("checkedAt", LocalDateTime.now());
+        report.put("databaseCount", versions.size());
+        report.put("indexCount", versions.size() - missing.size() + stale.size());
+        report.put("missing", missing.size());
+        report.put("stale", stale.size());
+        report.put("outdated", outdated.size());
+        report.put("missingSample", sample(missing));
+        report.put("staleSample", sample(stale));
+        report.put("outdatedSample", sample(outdated));
+        int repaired = 0;
+        if (repair && !(missing.isEmpty() && stale.isEmpty() && outdated.isEmpty())) {
+            repaired = repair(missing, stale, outdated);
+        }
+        report.put("repaired", repaired);
+        lastDriftReport = report;
+        if (missing.size() + stale.size() + outdated.size() > 0) {
+            log.warn("全文索引与数据库不一致：缺失 {}，多余 {}，过期 {}，已修复 {}",
+                    missing.size(), stale.size(), outdated.size(), repaired);
+        }
+        return report;
+    }
+
+    private int repair(List<Long> missing, List<Long> stale, List<Long> outdated) {
+        List<Long> reload = new ArrayList<>(missing);
+        reload.addAll(outdated);
+        int repaired = 0;
+        swapLock.readLock().lock();
+        try {
+            IndexState current = state;
+            for (Long id : stale) {
+                apply(current, id, null);
+                repaired++;
+            }
+            for (int from = 0; from < reload.size(); from += LOAD_BATCH_SIZE) {
+                List<Long> ids = reload.subList(from, Math.min(reload.size(), from + LOAD_BATCH_SIZE));
+                for (Item item : itemRepository.findAllById(ids)) {
+                    apply(current, item.getId(), isSearchable(item) ? toDocument(item) : null);
+                    repaired++;
+                }
+            }
+        } catch (IOException e) {
+            log.error("修复全文索引失败: {}", e.getMessage(), e);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+        return repaired;
+    }
+
+    private static Map<Long, Long> indexedVersions(IndexSearcher searcher) throws IOException {
+        Map<Long, Long> versions = new HashMap<>();
+        for (LeafReaderContext leaf : searcher.getIndexReader().leaves()) {
+            LeafReader reader = leaf.reader();
+            NumericDocValues ids = reader.getNumericDocValues(ID_VALUE);
+            NumericDocValues updatedAt = reader.getNumericDocValues(UPDATED_AT);
+            if (ids == null || updatedAt == null) {
+                continue;
+            }
+            Bits liveDocs = reader.getLiveDocs();
+            for (int doc = ids.nextDoc(); doc != NumericDocValues.NO_MORE_DOCS; doc = ids.nextDoc()) {
+                if (liveDocs != null && !liveDocs.get(doc)) {
+                    continue;
+                }
+                long version = updatedAt.advanceExact(doc) ? updatedAt.longValue() : 0L;
+                versions.put(ids.longValue(), version);
+            }
+        }
+        return versions;
+    }
+
+    private static List<Long> sample(List<Long> ids) {
+        return new ArrayList<>(ids.subList(0, Math.min(DRIFT_SAMPLE_SIZE, ids.size())));
+    }
+
+    /**
+     * 索引状态：文档数、最近一次重建与一致性检查结果
+     */
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("documents", state.writer.getDocStats().numDocs);
+        status.put("rebuilding", rebuilding.get());
+        status.put("refreshIntervalMs", (long) (refreshSeconds * 1000));
+        status.put("lastRebuildAt", lastRebuildAt);
+        status.put("lastRebuildMillis", lastRebuildMillis);
+        status.put("lastDriftCheck", lastDriftReport);
+        return status;
+    }
+
+    private Query buildQuery(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        keyword = keyword.strip();
+        if (keyword.length() > MAX_KEYWORD_LENGTH) {
+            keyword = keyword.substring(0, MAX_KEYWORD_LENGTH);
+        }
+        QueryBuilder builder = new QueryBuilder(analyzer);
+        // 单字与二元组按位置合并为同义词，不展开成图查询：长关键词不会组合爆炸，部分字符不同也能按比例命中
+        builder.setEnableGraphQueries(false);
+        BooleanQuery.Builder text = new BooleanQuery.Builder();
+        boolean hasClause = false;
+        for (int i = 0; i < TEXT_FIELDS.length; i++) {
+            Query terms = minShouldMatch(builder.createBooleanQuery(TEXT_FIELDS[i], keyword));
+            if (terms == null) {
+                continue;
+            }
+            text.add(new BoostQuery(terms, FIELD_BOOSTS[i]), BooleanClause.Occur.SHOULD);
+            // 整串连续出现的额外加分
+            Query phrase = builder.createPhraseQuery(TEXT_FIELDS[i], keyword);
+            if (phrase != null) {
+                text.add(new BoostQuery(phrase, FIELD_BOOSTS[i] * PHRASE_BOOST), BooleanClause.Occur.SHOULD);
+            }
+            hasClause = true;
+        }
+        if (!hasClause) {
+            return null;
+        }
+        return text.build();
+    }
+
+    /**
+     * 至少命中按比例向上取整的字位，短关键词（两三个字）需全部命中
+     */
+    private static Query minShouldMatch(Query query) {
+        if (!(query instanceof BooleanQuery)) {
+            return query;
+        }
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        int clauses = 0;
+        for (BooleanClause clause : (BooleanQuery) query) {
+            builder.add(clause);
+            clauses++;
+        }
+        builder.setMinimumNumberShouldMatch((int) Math.ceil(clauses * MIN_SHOULD_MATCH));
+        return builder.build();
+    }
+
+    private static boolean isSearchable(Item item) {
+        return Boolean.TRUE.equals(item.getApproved()) && item.getStatus() != Item.ItemStatus.COMPLETED;
+    }
+
+    private static Document toDocument(Item item) {
+        Document doc = new Document();
+        doc.add(new StringField(ID, String.valueOf(item.getId()), Field.Store.YES));
+        doc.add(new TextField(TITLE, nullToEmpty(item.getTitle()), Field.Store.NO));
+        doc.add(new TextField(DESCRIPTION, nullToEmpty(item.getDescription()), Field.Store.NO));
+        String location = (item.getLocation() == null ? "" : item.getLocation().getDescription())
+                + " " + (item.getDetailedLocation() == null ? "" : item.getDetailedLocation().getDescription());
+        doc.add(new TextField(LOCATION, location, Field.Store.NO));
+        addOrdinal(doc, POST_TYPE, item.getPostType());
+        addOrdinal(doc, CATEGORY, item.getCategory());
+        addOrdinal(doc, LOCATION_ORD, item.getLocation());
+        addOrdinal(doc, DETAILED_LOCATION_ORD, item.getDetailedLocation());
+        addOrdinal(doc, STATUS_ORD, item.getStatus());
+        doc.add(new NumericDocValuesField(CREATED_AT, epochMillis(item.getCreatedAt())));
+        doc.add(new NumericDocValuesField(ID_VALUE, item.getId()));
+        doc.add(new NumericDocValuesField(UPDATED_AT, epochMillis(item.getUpdatedAt())));
+        return doc;
+    }
+
+    private static void addOrdinal(Document doc, String field, Enum<?> value) {
+        if (value != null) {
+            doc.add(new NumericDocValuesField(field, value.ordinal()));
+        }
+    }
+
+    private static long epochMillis(LocalDateTime time) {
+        return time == null ? 0L : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    @PreDestroy
+    public void close() {
+        state.close();
+    }
+
+    /**
+     * 一份完整的索引：目录、写入器、搜索器管理器和近实时刷新线程
+     */
+    private static final class IndexState {
+
+        private final ByteBuffersDirectory directory;
+        private final IndexWriter writer;
+        private final SearcherManager manager;
+        private final ControlledRealTimeReopenThread<IndexSearcher> refresher;
+
+        private IndexState(ByteBuffersDirectory directory, IndexWriter writer, SearcherManager manager,
+                           ControlledRealTimeReopenThread<IndexSearcher> refresher) {
+            this.directory = directory;
+            this.writer = writer;
+            this.manager = manager;
+            this.refresher = refresher;
+        }
+
+        private static IndexState open(Analyzer analyzer, double refreshSeconds) {
+            try {
+                ByteBuffersDirectory directory = new ByteBuffersDirectory();
+                IndexWriterConfig config = new IndexWriterConfig(analyzer);
+                config.setSimilarity(new BM25Similarity());
+                IndexWriter writer = new IndexWriter(directory, config);
+                SearcherManager manager = new SearcherManager(writer, null);
+                ControlledRealTimeReopenThread<IndexSearcher> refresher =
+                        new ControlledRealTimeReopenThread<>(writer, manager, refreshSeconds, Math.min(0.025, refreshSeconds));
+                refresher.setName("search-nrt-refresh");
+                refresher.setDaemon(true);
+                refresher.start();
+                return new IndexState(directory, writer, manager, refresher);
+            } catch (IOException e) {
+                throw new RuntimeException("全文索引初始化失败", e);
+            }
+        }
+
+        private void close() {
+            try {
+                refresher.close();
+                manager.close();
+                writer.close();
+                directory.close();
+            } catch (IOException e) {
+                log.warn("关闭全文索引失败: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static final class PendingChange {
+
+        private final Long itemId;
+        private final Document document;
+
+        private PendingChange(Long itemId, Document document) {
+            this.itemId = itemId;
+            this.document = document;
+        }
+    }
+
+    /**
+     * 标准分词后做全角半角归一、小写化，中日韩文字输出二元组并保留单字，单字关键词也能命中
+     */
+    private static final class CjkBigramAnalyzer extends Analyzer {
+
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer source = new StandardTokenizer();
+            TokenStream result = new CJKWidthFilter(source);
+            result = new LowerCaseFilter(result);
+            result = new CJKBigramFilter(result, CJKBigramFilter.HAN | CJKBigramFilter.HIRAGANA
+                    | CJKBigramFilter.KATAKANA | CJKBigramFilter.HANGUL, true);
+            return new TokenStreamComponents(source, result);
+        }
+    }
+}
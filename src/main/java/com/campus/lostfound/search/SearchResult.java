@@ -0,0 +1,73 @@
+package com.campus.lostfound.search;
+
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 检索结果：当前页与命中集合上的分面计数
+ */
+@Getter
+public class SearchResult<T> {
+
+    private final Page<T> page;
+    // 维度 -> 取值序号 -> 命中数
+    private final Map<EnumBitmapIndex.Dimension, int[]> facets;
+
+    public SearchResult(Page<T> page, Map<EnumBitmapIndex.Dimension, int[]> facets) {
+        this.page = page;
+        this.facets = facets == null ? new EnumMap<>(EnumBitmapIndex.Dimension.class) : facets;
+    }
+
+    public <R> SearchResult<R> withPage(Page<R> newPage) {
+        return new SearchResult<>(newPage, facets);
+    }
+
+    public <R> SearchResult<R> map(Function<Page<T>, Page<R>> mapper) {
+        return withPage(mapper.apply(page));
+    }
+
+    /**
+     * 某一维度命中数大于 0 的取值，按命中数降序
+     */
+    public List<FacetCount> buckets(EnumBitmapIndex.Dimension dimension) {
+        int[] counts = facets.get(dimension);
+        if (counts == null) {
+            return Collections.emptyList();
+        }
+        Enum<?>[] values = dimension.getEnumValues();
+        List<FacetCount> buckets = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                buckets.add(new FacetCount(values[i], counts[i]));
+            }
+        }
+        buckets.sort((a, b) -> Integer.compare(b.getCount(), a.getCount()));
+        return buckets;
+    }
+
+    /**
+     * 分面取值与命中数
+     */
+    @Getter
+    public static class FacetCount {
+
+        private final Enum<?> value;
+        private final int count;
+
+        public FacetCount(Enum<?> value, int count) {
+            this.value = value;
+            this.count = count;
+        }
+
+        public String getName() {
+            return value.name();
+        }
+    }
+}
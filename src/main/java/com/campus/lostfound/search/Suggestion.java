@@ -0,0 +1,20 @@
+package com.campus.lostfound.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 搜索联想词条
+ */
+@Getter
+@AllArgsConstructor
+public class Suggestion {
+
+    private final String text;
+    private final SuggestionIndex.Kind kind;
+    private final int count;
+
+    public String getKindDescription() {
+        return kind.getDescription();
+    }
+}
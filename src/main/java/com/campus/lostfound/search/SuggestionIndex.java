@@ -0,0 +1,397 @@
+package com.campus.lostfound.search;
+
+import com.campus.lostfound.entity.Item;
+import com.campus.lostfound.event.ItemLifecycleEvent;
+import com.campus.lostfound.repository.ItemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 搜索联想词前缀树
+ * 词条来自可搜索物品的标题、类别描述和地点描述，频次为引用该词条的物品数。
+ * 词条的每个后缀都挂到树上（最多 MAX_SUFFIXES 个起点，每个后缀最多 MAX_DEPTH 层），输入“耳机”也能联想到“蓝牙耳机”，
+ * 节点数随词条数线性增长而与标题长度无关；子节点用有序字符数组存放，不使用装箱字符与哈希表。
+ * 每个节点保存子树内频次最高的 TOP_K 个词条，词条变化时在写锁内沿后缀路径自底向上由子节点的前列合并重算，
+ * 查询只需沿输入走到对应节点直接读取；输入超过 MAX_DEPTH 时在该层节点的词条中按包含关系筛选。
+ * 启动时全量加载，之后随物品生命周期事件（事务提交后）增量维护
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SuggestionIndex {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final int TOP_K = 10;
+    private static final int MAX_SUFFIXES = 16;
+    private static final int MAX_DEPTH = 8;
+    private static final int MAX_PREFIX_LENGTH = 32;
+
+    private static final Comparator<Term> BY_FREQUENCY = Comparator.comparingInt((Term t) -> t.count).reversed()
+            .thenComparing(t -> t.text);
+
+    /**
+     * 联想词来源
+     */
+    public enum Kind {
+        TITLE("物品"),
+        CATEGORY("类别"),
+        LOCATION("地点");
+
+        private final String description;
+
+        Kind(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    private final ItemRepository itemRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node root = new Node();
+    // 规范化文本 -> 词条
+    private final Map<String, Term> terms = new HashMap<>();
+    // 物品ID -> 该物品贡献的词条
+    private final Map<Long, List<Term>> itemTerms = new HashMap<>();
+
+    /**
+     * 应用启动完成后全量加载
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            root = new Node();
+            terms.clear();
+            itemTerms.clear();
+            long lastId = 0L;
+            while (true) {
+                List<Item> batch = itemRepository.findSearchableAfterId(lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                for (Item item : batch) {
+                    addItem(item);
+                    lastId = item.getId();
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("联想词索引加载完成，共 {} 个物品、{} 个词条", itemTerms.size(), terms.size());
+    }
+
+    /**
+     * 物品生命周期变化后（事务提交后）增量维护：先撤销该物品原有词条，可搜索的再按当前内容加入
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemLifecycle(ItemLifecycleEvent event) {
+        Item item = event.getItem();
+        lock.writeLock().lock();
+        try {
+            removeItem(item.getId());
+            if (!event.isDeleted() && isSearchable(item)) {
+                addItem(item);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 按前缀联想，结果按频次降序
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || key.length() > MAX_PREFIX_LENGTH) {
+            return Collections.emptyList();
+        }
+        int size = Math.max(1, Math.min(limit, TOP_K));
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int depth = Math.min(key.length(), MAX_DEPTH);
+            for (int i = 0; i < depth && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            if (node == null) {
+                return Collections.emptyList();
+            }
+            List<Term> top = key.length() <= MAX_DEPTH ? node.top : containing(node, key);
+            List<Suggestion> suggestions = new ArrayList<>(Math.min(size, top.size()));
+            for (int i = 0; i < top.size() && suggestions.size() < size; i++) {
+                Term term = top.get(i);
+                suggestions.add(new Suggestion(term.text, term.kind, term.count));
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return terms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addItem(Item item) {
+        List<Term> contributed = new ArrayList<>(4);
+        addTerm(contributed, item.getTitle(), Kind.TITLE);
+        if (item.getCategory() != null) {
+            addTerm(contributed, item.getCategory().getDescription(), Kind.CATEGORY);
+        }
+        if (item.getLocation() != null) {
+            addTerm(contributed, item.getLocation().getDescription(), Kind.LOCATION);
+        }
+        if (item.getDetailedLocation() != null) {
+            addTerm(contributed, item.getDetailedLocation().getDescription(), Kind.LOCATION);
+        }
+        if (!contributed.isEmpty()) {
+            itemTerms.put(item.getId(), contributed);
+        }
+    }
+
+    private void addTerm(List<Term> contributed, String text, Kind kind) {
+        String key = normalize(text);
+        if (key.isEmpty()) {
+            return;
+        }
+        Term term = terms.get(key);
+        if (term == null) {
+            term = new Term(text.trim(), key, kind);
+            terms.put(key, term);
+            attach(term);
+        }
+        // 同一物品的多个来源落到同一词条时只计一次
+        for (Term existing : contributed) {
+            if (existing == term) {
+                return;
+            }
+        }
+        term.count++;
+        contributed.add(term);
+        refreshPaths(term);
+    }
+
+    private void removeItem(Long itemId) {
+        List<Term> contributed = itemTerms.remove(itemId);
+        if (contributed == null) {
+            return;
+        }
+        for (Term term : contributed) {
+            term.count--;
+            if (term.count == 0) {
+                detach(term);
+                terms.remove(term.key);
+            }
+            // 频次下降可能让子树内其他词条进入前列，沿路径立即重算，读者不会遇到失效的节点
+            refreshPaths(term);
+        }
+    }
+
+    private void attach(Term term) {
+        for (int start = 0; start < term.key.length() && start < MAX_SUFFIXES; start++) {
+            Node node = root;
+            int end = Math.min(term.key.length(), start + MAX_DEPTH);
+            for (int i = start; i < end; i++) {
+                node = node.childOrCreate(term.key.charAt(i));
+            }
+            node.addTerm(term);
+        }
+    }
+
+    private void detach(Term term) {
+        for (int start = 0; start < term.key.length() && start < MAX_SUFFIXES; start++) {
+            detach(root, term, start, Math.min(term.key.length(), start + MAX_DEPTH));
+        }
+    }
+
+    private static boolean detach(Node node, Term term, int index, int end) {
+        if (index == end) {
+            node.removeTerm(term);
+        } else {
+            char c = term.key.charAt(index);
+            Node child = node.child(c);
+            if (child != null && detach(child, term, index + 1, end)) {
+                node.removeChild(c);
+            }
+        }
+        return node.terms.length == 0 && node.keys.length == 0;
+    }
+
+    /**
+     * 沿词条各后缀路径自底向上重算前列：子节点先于父节点，父节点合并的都是子节点的最新结果
+     */
+    private void refreshPaths(Term term) {
+        Node[] path = new Node[MAX_DEPTH];
+        for (int start = 0; start < term.key.length() && start < MAX_SUFFIXES; start++) {
+            Node node = root;
+            int depth = 0;
+            int end = Math.min(term.key.length(), start + MAX_DEPTH);
+            for (int i = start; i < end; i++) {
+                node = node.child(term.key.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                path[depth++] = node;
+            }
+            for (int i = depth - 1; i >= 0; i--) {
+                path[i].top = mergeTop(path[i]);
+            }
+        }
+    }
+
+    /**
+     * 节点自身的词条与各子节点的前列合并，取频次最高的 TOP_K 个
+     */
+    private static List<Term> mergeTop(Node node) {
+        List<Term> candidates = new ArrayList<>(node.terms.length + node.children.length * TOP_K);
+        Collections.addAll(candidates, node.terms);
+        for (Node child : node.children) {
+            for (Term term : child.top) {
+                // 同一词条的多个后缀可能经不同子节点到达
+                if (!candidates.contains(term)) {
+                    candidates.add(term);
+                }
+            }
+        }
+        candidates.sort(BY_FREQUENCY);
+        return List.copyOf(candidates.size() > TOP_K ? candidates.subList(0, TOP_K) : candidates);
+    }
+
+    /**
+     * 输入超过 MAX_DEPTH 时，在该层节点挂的词条中筛选包含整个输入的
+     */
+    private static List<Term> containing(Node node, String key) {
+        List<Term> matched = new ArrayList<>();
+        for (Term term : node.terms) {
+            if (term.key.contains(key)) {
+                matched.add(term);
+            }
+        }
+        matched.sort(BY_FREQUENCY);
+        return matched.size() > TOP_K ? matched.subList(0, TOP_K) : matched;
+    }
+
+    private static boolean isSearchable(Item item) {
+        return Boolean.TRUE.equals(item.getApproved()) && item.getStatus() != Item.ItemStatus.COMPLETED;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 前缀树节点：子节点按字符有序存放在并列数组中，二分查找
+     */
+    private static final class Node {
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final Term[] NO_TERMS = new Term[0];
+
+        char[] keys = NO_KEYS;
+        Node[] children = NO_CHILDREN;
+        // 以该节点结尾的词条（某个后缀的终点）
+        Term[] terms = NO_TERMS;
+        // 子树内频次最高的词条，写锁内重算后整体替换
+        volatile List<Term> top = List.of();
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node childOrCreate(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            if (i >= 0) {
+                return children[i];
+            }
+            int at = -i - 1;
+            Node child = new Node();
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, at);
+            System.arraycopy(children, 0, newChildren, 0, at);
+            newKeys[at] = c;
+            newChildren[at] = child;
+            System.arraycopy(keys, at, newKeys, at + 1, keys.length - at);
+            System.arraycopy(children, at, newChildren, at + 1, children.length - at);
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+
+        void removeChild(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            if (i < 0) {
+                return;
+            }
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, i);
+            System.arraycopy(children, 0, newChildren, 0, i);
+            System.arraycopy(keys, i + 1, newKeys, i, keys.length - i - 1);
+            System.arraycopy(children, i + 1, newChildren, i, children.length - i - 1);
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        void addTerm(Term term) {
+            for (Term existing : terms) {
+                if (existing == term) {
+                    return;
+                }
+            }
+            Term[] newTerms = Arrays.copyOf(terms, terms.length + 1);
+            newTerms[terms.length] = term;
+            terms = newTerms;
+        }
+
+        void removeTerm(Term term) {
+            for (int i = 0; i < terms.length; i++) {
+                if (terms[i] == term) {
+                    Term[] newTerms = new Term[terms.length - 1];
+                    System.arraycopy(terms, 0, newTerms, 0, i);
+                    System.arraycopy(terms, i + 1, newTerms, i, terms.length - i - 1);
+                    terms = newTerms;
+                    return;
+                }
+            }
+        }
+    }
+
+    private static final class Term {
+        final String text;
+        final String key;
+        final Kind kind;
+        int count;
+
+        Term(String text, String key, Kind kind) {
+            this.text = text;
+            this.key = key;
+            this.kind = kind;
+        }
+    }
+}
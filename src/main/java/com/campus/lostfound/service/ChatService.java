@@ -4,10 +4,13 @@ import com.campus.lostfound.entity.ChatMessage;
 import com.campus.lostfound.entity.ChatThread;
 import com.campus.lostfound.entity.Item;
 import com.campus.lostfound.entity.User;
+import com.campus.lostfound.event.NotificationEvent;
 import com.campus.lostfound.repository.ChatMessageRepository;
 import com.campus.lostfound.repository.ChatThreadRepository;
 import com.campus.lostfound.repository.ItemRepository;
+import com.campus.lostfound.stats.UnreadCounterStore;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +22,8 @@ public class ChatService {
     private final ChatThreadRepository threadRepo;
     private final ChatMessageRepository msgRepo;
     private final ItemRepository itemRepo;
+    private final UnreadCounterStore unreadCounterStore;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ChatThread startOrGetThread(Long itemId, User current, Long otherUserId) {
@@ -53,10 +58,13 @@ public class ChatService {
             return t2.getUpdatedAt().compareTo(t1.getUpdatedAt());
         });
         
-        // 为每个线程计算未读消息数量
+        // 一次分组查询得到各线程的未读消息数量
+        java.util.Map<Long, Integer> unreadByThread = new java.util.HashMap<>();
+        for (Object[] row : msgRepo.countUnreadByThread(me)) {
+            unreadByThread.put((Long) row[0], ((Long) row[1]).intValue());
+        }
         for (ChatThread thread : allThreads) {
-            List<ChatMessage> unreadMessages = msgRepo.findByThreadAndSenderNotAndIsReadFalse(thread, me);
-            thread.setUnreadCount(unreadMessages.size());
+            thread.setUnreadCount(unreadByThread.getOrDefault(thread.getId(), 0));
         }
         
         return allThreads;
@@ -75,7 +83,11 @@ public class ChatService {
         m.setThread(t);
         m.setSender(sender);
         m.setContent(content);
-        return msgRepo.save(m);
+        ChatMessage saved = msgRepo.save(m);
+        User recipient = t.getUserA().getId().equals(sender.getId()) ? t.getUserB() : t.getUserA();
+        unreadCounterStore.record(recipient.getId(), UnreadCounterStore.Kind.CHAT, 1);
+        eventPublisher.publishEvent(NotificationEvent.unreadChanged(this, recipient.getId()));
+        return saved;
     }
 
     @Transactional(readOnly = true)
@@ -88,16 +100,8 @@ public class ChatService {
      */
     @Transactional(readOnly = true)
     public long getUnreadChatCount(User user) {
-        List<ChatThread> userThreads = myThreads(user);
-        long unreadCount = 0;
-        
-        for (ChatThread thread : userThreads) {
-            // 计算该线程中不是当前用户发送的未读消息数量
-            List<ChatMessage> unreadMessages = msgRepo.findByThreadAndSenderNotAndIsReadFalse(thread, user);
-            unreadCount += unreadMessages.size();
-        }
-        
-        return unreadCount;
+        return unreadCounterStore.get(user.getId(), UnreadCounterStore.Kind.CHAT,
+                () -> msgRepo.countUnreadForUser(user));
     }
 
     @Transactional(readOnly = true)
@@ -113,13 +117,11 @@ public class ChatService {
         ChatThread thread = threadRepo.findById(threadId)
                 .orElseThrow(() -> new RuntimeException("会话不存在"));
         
-        // 获取该线程中不是当前用户发送的未读消息
-        List<ChatMessage> unreadMessages = msgRepo.findByThreadAndSenderNotAndIsReadFalse(thread, user);
-        
-        // 标记为已读
-        for (ChatMessage message : unreadMessages) {
-            message.markAsRead();
-            msgRepo.save(message);
+        // 将该线程中不是当前用户发送的未读消息标记为已读
+        int marked = msgRepo.markThreadAsRead(thread, user, java.time.LocalDateTime.now());
+        unreadCounterStore.record(user.getId(), UnreadCounterStore.Kind.CHAT, -marked);
+        if (marked > 0) {
+            eventPublisher.publishEvent(NotificationEvent.unreadChanged(this, user.getId()));
         }
     }
 
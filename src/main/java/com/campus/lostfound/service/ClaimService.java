@@ -1,12 +1,17 @@
 package com.campus.lostfound.service;
 
+import com.campus.lostfound.dto.NotificationContent;
 import com.campus.lostfound.entity.Claim;
 import com.campus.lostfound.entity.Item;
 import com.campus.lostfound.entity.User;
+import com.campus.lostfound.event.ClaimLifecycleEvent;
+import com.campus.lostfound.event.ItemLifecycleEvent;
+import com.campus.lostfound.outbox.OutboxService;
 import com.campus.lostfound.repository.ClaimRepository;
 import com.campus.lostfound.repository.ItemRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +27,8 @@ public class ClaimService {
     private final ItemRepository itemRepository;
     private final NotificationService notificationService;
     private final com.campus.lostfound.repository.UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxService outboxService;
 
     @Transactional
     public Claim submitClaim(Long itemId, User claimant, String verificationDetail) {
@@ -42,6 +49,8 @@ public class ClaimService {
         claim.setVerificationDetail(verificationDetail);
         claim.setStatus(Claim.ClaimStatus.SUBMITTED);
         Claim saved = claimRepository.save(claim);
+        itemRepository.incrementClaimCount(item.getId());
+        eventPublisher.publishEvent(new ClaimLifecycleEvent(this, item.getId(), ClaimLifecycleEvent.Type.SUBMITTED));
         log.info("认领申请已提交: item={}, user={}", item.getId(), claimant.getUsername());
         // 通知发布者有新的认领申请
         notificationService.notifyClaimSubmitted(item, claimant);
@@ -73,6 +82,8 @@ public class ClaimService {
         } catch (Exception ignored) {}
         claim.setReviewedAt(LocalDateTime.now());
         claim.setReviewNote(note);
+        eventPublisher.publishEvent(new ClaimLifecycleEvent(this, claim.getItem().getId(),
+                pass ? ClaimLifecycleEvent.Type.REVIEWED : ClaimLifecycleEvent.Type.REMOVED));
         if (pass) {
             // 最终审核通过即流程结束：认领完成 + 物品标记已完成
             claim.setStatus(Claim.ClaimStatus.COMPLETED);
@@ -80,17 +91,25 @@ public class ClaimService {
             Item item = claim.getItem();
             item.setStatus(Item.ItemStatus.COMPLETED);
             try { itemRepository.save(item); } catch (Exception e) { log.error("保存物品失败: {}", e.getMessage(), e); }
+            eventPublisher.publishEvent(new ItemLifecycleEvent(this, item, ItemLifecycleEvent.Type.STATUS_CHANGED));
             try { claimRepository.save(claim); } catch (Exception e) { log.error("保存认领失败: {}", e.getMessage(), e); }
-            // 通知双方（失败不影响主流程）
-            try { notificationService.notifyClaimApproved(claim.getClaimant(), item); } catch (Exception e) { log.error("通知申请者失败: {}", e.getMessage()); }
-            try { notificationService.notifySystemMessage(item.getOwner(), "认领已完成", "您的发布《" + item.getTitle() + "》已通过管理员审核并完成。"); } catch (Exception e) { log.error("通知发布者失败: {}", e.getMessage()); }
+            // 通知双方：写入发件箱，随审核结果一起提交
+            outboxService.enqueueNotification("claim-reviewed:" + claimId + ":claimant", claim.getClaimant(),
+                    NotificationContent.claimApproved(item));
+            outboxService.enqueueNotification("claim-reviewed:" + claimId + ":owner", item.getOwner(),
+                    NotificationContent.claimCompleted(item));
         } else {
             // 管理员拒绝：标记后删除记录，并通知双方
             claim.setStatus(Claim.ClaimStatus.REJECTED);
             try { claimRepository.save(claim); } catch (Exception e) { log.error("保存认领失败: {}", e.getMessage(), e); }
-            try { claimRepository.delete(claim); } catch (Exception e) { log.error("删除认领失败: {}", e.getMessage(), e); }
-            try { notificationService.notifyClaimRejected(claim.getClaimant(), claim.getItem(), note == null?"":note); } catch (Exception e) { log.error("通知申请者失败: {}", e.getMessage()); }
-            try { notificationService.notifySystemMessage(claim.getItem().getOwner(), "管理员驳回认领", "管理员驳回了该条认领申请：" + (note==null?"":note)); } catch (Exception e) { log.error("通知发布者失败: {}", e.getMessage()); }
+            try {
+                claimRepository.delete(claim);
+                itemRepository.decrementClaimCount(claim.getItem().getId());
+            } catch (Exception e) { log.error("删除认领失败: {}", e.getMessage(), e); }
+            outboxService.enqueueNotification("claim-reviewed:" + claimId + ":claimant", claim.getClaimant(),
+                    NotificationContent.claimRejected(claim.getItem(), note == null ? "" : note));
+            outboxService.enqueueNotification("claim-reviewed:" + claimId + ":owner", claim.getItem().getOwner(),
+                    NotificationContent.claimRejectedByAdmin(note));
         }
     }
 
@@ -113,6 +132,8 @@ public class ClaimService {
             notificationService.notifySystemMessage(claim.getClaimant(), "发布者已驳回", "发布者对您对《" + claim.getItem().getTitle() + "》的认领做出了驳回：" + (note==null?"":note));
             // 发布者驳回：删除该申请，并通知发布者
             claimRepository.delete(claim);
+            itemRepository.decrementClaimCount(claim.getItem().getId());
+            eventPublisher.publishEvent(new ClaimLifecycleEvent(this, claim.getItem().getId(), ClaimLifecycleEvent.Type.REMOVED));
             notificationService.notifySystemMessage(owner, "已驳回认领", "您已驳回来自 " + claim.getClaimant().getDisplayName() + " 的认领申请。");
         }
     }
@@ -124,10 +145,12 @@ public class ClaimService {
         claim.setCompletedAt(LocalDateTime.now());
         claim.setStatus(Claim.ClaimStatus.COMPLETED);
         claimRepository.save(claim);
+        eventPublisher.publishEvent(new ClaimLifecycleEvent(this, claim.getItem().getId(), ClaimLifecycleEvent.Type.REVIEWED));
         // 同时更新物品状态为已认领
         Item item = claim.getItem();
         item.setStatus(Item.ItemStatus.CLAIMED);
         itemRepository.save(item);
+        eventPublisher.publishEvent(new ItemLifecycleEvent(this, item, ItemLifecycleEvent.Type.STATUS_CHANGED));
         notificationService.notifySystemMessage(claim.getItem().getOwner(), "物品已被认领", "您的物品《" + item.getTitle() + "》已完成认领");
     }
 }
@@ -0,0 +1,130 @@
+package com.campus.lostfound.service;
+
+import com.campus.lostfound.dto.CursorPage;
+import com.campus.lostfound.dto.HomeSnapshot;
+import com.campus.lostfound.dto.ItemCard;
+import com.campus.lostfound.entity.Item;
+import com.campus.lostfound.event.ClaimLifecycleEvent;
+import com.campus.lostfound.event.ItemLifecycleEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 首页快照服务
+ * 首页的最新发布第一页、热门物品和四个统计数字预先算好放在内存里，首页请求直接读取快照。
+ * 物品或认领变化（事务提交后）将快照标记为过期，另有 TTL 兜底；
+ * 过期后由一个请求负责重建，其余请求继续使用旧快照，只有尚无快照时才等待
+ */
+@Service
+@Slf4j
+public class HomeSnapshotService {
+
+    public static final int RECENT_PAGE_SIZE = 10;
+    private static final int POPULAR_SIZE = 5;
+
+    private final ItemService itemService;
+    private final TransactionTemplate transactionTemplate;
+    private final long ttlMillis;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile HomeSnapshot snapshot;
+    private volatile long builtAtMillis;
+    private volatile boolean dirty = true;
+
+    public HomeSnapshotService(ItemService itemService,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.home.snapshot-ttl-ms:30000}") long ttlMillis) {
+        this.itemService = itemService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * 获取首页快照
+     */
+    public HomeSnapshot get() {
+        HomeSnapshot current = snapshot;
+        if (current != null && !isStale()) {
+            return current;
+        }
+        if (current == null) {
+            rebuildLock.lock();
+        } else if (!rebuildLock.tryLock()) {
+            // 已有请求在重建，先返回旧快照
+            return current;
+        }
+        try {
+            if (snapshot == null || isStale()) {
+                rebuild();
+            }
+            return snapshot;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * 物品变化后标记快照过期
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemLifecycle(ItemLifecycleEvent event) {
+        // 权重重算不影响首页展示
+        if (event.getType() != ItemLifecycleEvent.Type.REWEIGHTED) {
+            dirty = true;
+        }
+    }
+
+    /**
+     * 认领变化会影响热门物品排序
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClaimLifecycle(ClaimLifecycleEvent event) {
+        dirty = true;
+    }
+
+    private boolean isStale() {
+        return dirty || System.currentTimeMillis() - builtAtMillis > ttlMillis;
+    }
+
+    private void rebuild() {
+        // 先清除标记：构建期间到达的事件会再次置位，下一次请求重新构建
+        dirty = false;
+        long start = System.currentTimeMillis();
+        try {
+            snapshot = transactionTemplate.execute(status -> {
+                CursorPage<Item> recent = itemService.getRecentItems(null, RECENT_PAGE_SIZE);
+                CursorPage<ItemCard> recentCards = new CursorPage<>(
+                        recent.getContent().stream().map(ItemCard::of).toList(),
+                        recent.getPreviousCursor(), recent.getNextCursor(), recent.getApproximateTotal());
+                return new HomeSnapshot(
+                        recentCards,
+                        itemService.getPopularItems(PageRequest.of(0, POPULAR_SIZE)).getContent().stream()
+                                .map(ItemCard::of).toList(),
+                        itemService.countApprovedItems(),
+                        itemService.countLostItems(),
+                        itemService.countFoundItems(),
+                        itemService.countCompletedItems(),
+                        LocalDateTime.now());
+            });
+            builtAtMillis = System.currentTimeMillis();
+            log.debug("首页快照已重建，耗时 {} ms", builtAtMillis - start);
+        } catch (RuntimeException e) {
+            if (snapshot == null) {
+                dirty = true;
+                throw e;
+            }
+            // 失败后按 TTL 退避，避免每个请求都去重试
+            builtAtMillis = System.currentTimeMillis();
+            log.warn("首页快照重建失败，继续使用旧快照: {}", e.getMessage());
+        }
+    }
+}
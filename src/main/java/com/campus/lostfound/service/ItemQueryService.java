@@ -0,0 +1,122 @@
+package com.campus.lostfound.service;
+
+import com.campus.lostfound.dto.ItemSummary;
+import com.campus.lostfound.entity.Item;
+import com.campus.lostfound.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 物品条件查询服务
+ * 条件、排序、分页全部在数据库端完成，列表只取投影列
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ItemQueryService {
+
+    /**
+     * 列表排序选项
+     */
+    public enum SortOption {
+        NEWEST("最新发布", Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"))),
+        OLDEST("最早发布", Sort.by(Sort.Order.asc("createdAt"), Sort.Order.asc("id"))),
+        TITLE("标题", Sort.by(Sort.Order.asc("title"), Sort.Order.desc("id")));
+
+        private final String description;
+        private final Sort sort;
+
+        SortOption(String description, Sort sort) {
+            this.description = description;
+            this.sort = sort;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public Sort getSort() {
+            return sort;
+        }
+    }
+
+    private final EntityManager entityManager;
+
+    /**
+     * 分页查询物品投影；总数由调用方给出（如位图索引计数），不再单独发 COUNT。
+     * total 为空时不计算精确总数：多取一行判断是否还有下一页，页面总数为已知下限
+     */
+    public Page<ItemSummary> findSummaries(Specification<Item> spec, Pageable pageable, Long total) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ItemSummary> query = cb.createQuery(ItemSummary.class);
+        Root<Item> root = query.from(Item.class);
+        Join<Item, User> owner = root.join("owner");
+        query.select(cb.construct(ItemSummary.class,
+                root.get("id"), root.get("title"), root.get("category"), root.get("postType"),
+                root.get("status"), root.get("location"), root.get("detailedLocation"),
+                root.get("createdAt"), owner.get("displayName"), owner.get("studentId")));
+        Predicate where = spec.toPredicate(root, query, cb);
+        if (where != null) {
+            query.where(where);
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        
+        int limit = total == null ? pageable.getPageSize() + 1 : pageable.getPageSize();
+        List<ItemSummary> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(limit)
+                .getResultList();
+        long knownTotal;
+        if (total != null) {
+            knownTotal = total;
+        } else {
+            boolean hasNext = content.size() > pageable.getPageSize();
+            if (hasNext) {
+                content = new ArrayList<>(content.subList(0, pageable.getPageSize()));
+            }
+            knownTotal = pageable.getOffset() + content.size() + (hasNext ? 1 : 0);
+        }
+        attachCoverImages(content);
+        return new PageImpl<>(content, pageable, knownTotal);
+    }
+
+    /**
+     * 为当前页批量取封面图片：优先主图，其次排序号最小的图片
+     */
+    private void attachCoverImages(List<ItemSummary> content) {
+        if (content.isEmpty()) {
+            return;
+        }
+        List<Long> ids = content.stream().map(ItemSummary::getId).toList();
+        List<Object[]> rows = entityManager.createQuery(
+                        "SELECT img.item.id, img.fileName FROM ItemImage img WHERE img.item.id IN :ids " +
+                        "ORDER BY img.isMain DESC, img.sortOrder ASC, img.id ASC", Object[].class)
+                .setParameter("ids", ids)
+                .getResultList();
+        Map<Long, String> covers = new HashMap<>();
+        for (Object[] row : rows) {
+            covers.putIfAbsent((Long) row[0], (String) row[1]);
+        }
+        for (ItemSummary summary : content) {
+            summary.setCoverImage(covers.get(summary.getId()));
+        }
+    }
+}
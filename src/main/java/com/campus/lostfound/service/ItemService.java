@@ -1,13 +1,32 @@
 package com.campus.lostfound.service;
 
+import com.campus.lostfound.dto.CursorPage;
+import com.campus.lostfound.dto.ItemCursor;
+import com.campus.lostfound.dto.NotificationContent;
 import com.campus.lostfound.entity.Item;
 import com.campus.lostfound.entity.ItemMatch;
 import com.campus.lostfound.entity.User;
+import com.campus.lostfound.event.ItemLifecycleEvent;
+import com.campus.lostfound.matching.ActiveItemStore;
+import com.campus.lostfound.matching.IndexedItem;
+import com.campus.lostfound.matching.MatchCandidateIndex;
+import com.campus.lostfound.matching.TokenDictionary;
+import com.campus.lostfound.outbox.OutboxService;
 import com.campus.lostfound.repository.ItemMatchRepository;
 import com.campus.lostfound.repository.ItemRepository;
+import com.campus.lostfound.search.EnumBitmapIndex;
+import com.campus.lostfound.search.ItemEnumFilter;
+import com.campus.lostfound.search.ItemSearchIndex;
+import com.campus.lostfound.search.SearchResult;
+import com.campus.lostfound.stats.StatCounterService;
+import com.campus.lostfound.util.LongHashSet;
+import com.campus.lostfound.util.TopKHeap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,9 +38,13 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 /**
@@ -41,6 +64,14 @@ public class ItemService {
     private final com.campus.lostfound.repository.ClaimRepository claimRepository;
     private final com.campus.lostfound.repository.NotificationRepository notificationRepository;
     private final com.campus.lostfound.repository.ReportRepository reportRepository;
+    private final MatchCandidateIndex matchCandidateIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ForkJoinPool matchScoringPool;
+    private final ActiveItemStore activeItemStore;
+    private final OutboxService outboxService;
+    private final ItemSearchIndex itemSearchIndex;
+    private final EnumBitmapIndex enumBitmapIndex;
+    private final StatCounterService statCounterService;
     
     /**
      * 发布物品
@@ -78,6 +109,7 @@ public class ItemService {
             }
         }
         
+        publishLifecycle(savedItem, ItemLifecycleEvent.Type.POSTED);
         log.info("物品发布成功: {} - {}", postType.getDescription(), title);
         return savedItem;
     }
@@ -89,13 +121,6 @@ public class ItemService {
         return itemRepository.findById(id);
     }
     
-    /**
-     * 获取已审核的物品
-     */
-    public Page<Item> getApprovedItems(Pageable pageable) {
-        return itemRepository.findByApprovedTrueAndStatusNot(Item.ItemStatus.COMPLETED, pageable);
-    }
-    
     /**
      * 获取待审核的物品
      */
@@ -154,6 +179,7 @@ public class ItemService {
             log.info("物品状态已设置为COMPLETED，正在保存到数据库...");
             
             Item savedItem = itemRepository.save(item);
+            publishLifecycle(savedItem, ItemLifecycleEvent.Type.STATUS_CHANGED);
             log.info("物品状态已更新为已完成: {} (新状态: {})", savedItem.getTitle(), savedItem.getStatus());
 
             // 更新相关的匹配记录状态
@@ -203,25 +229,77 @@ public class ItemService {
     }
     
     /**
-     * 搜索物品
+     * 全文搜索物品：由全文索引按相关度取出当前页的ID和各维度分面计数，再只加载这些物品
      */
-    public Page<Item> searchItems(String keyword, Pageable pageable) {
-        return itemRepository.searchApprovedItems(keyword, pageable);
+    public SearchResult<Item> searchItems(String keyword, ItemEnumFilter filter, Pageable pageable) {
+        SearchResult<Long> result = itemSearchIndex.search(keyword, filter, pageable);
+        Page<Long> ids = result.getPage();
+        if (ids.isEmpty()) {
+            return result.withPage(new PageImpl<>(List.of(), pageable, ids.getTotalElements()));
+        }
+        Map<Long, Item> loaded = itemRepository.findAllById(ids.getContent()).stream()
+                .collect(Collectors.toMap(Item::getId, i -> i));
+        List<Item> items = new ArrayList<>(ids.getNumberOfElements());
+        for (Long id : ids.getContent()) {
+            Item item = loaded.get(id);
+            if (item != null) {
+                items.add(item);
+            }
+        }
+        return result.withPage(new PageImpl<>(items, pageable, ids.getTotalElements()));
     }
     
     /**
-     * 高级搜索物品
+     * 获取最近发布的物品：按（创建时间, ID）键集分页，任意一页的代价与第一页相同
+     * 总数取自枚举位图索引，随物品变更事件更新，只作近似展示
      */
-    public Page<Item> advancedSearch(String keyword, Item.PostType postType, 
-                                   Item.ItemCategory category, Pageable pageable) {
-        return itemRepository.advancedSearch(keyword, postType, category, pageable);
+    public CursorPage<Item> getRecentItems(String cursorToken, int size) {
+        ItemCursor cursor = ItemCursor.decode(cursorToken);
+        size = Math.max(1, Math.min(size, 100));
+        // 多取一条用于判断是否还有下一页
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Item> rows;
+        if (cursor == null) {
+            rows = itemRepository.findFeedFirst(limit);
+        } else if (cursor.isForward()) {
+            rows = itemRepository.findFeedOlderThan(cursor.getCreatedAt(), cursor.getId(), limit);
+        } else {
+            rows = itemRepository.findFeedNewerThan(cursor.getCreatedAt(), cursor.getId(), limit);
+        }
+        boolean more = rows.size() > size;
+        List<Item> content = new ArrayList<>(more ? rows.subList(0, size) : rows);
+        boolean backward = cursor != null && !cursor.isForward();
+        if (backward) {
+            Collections.reverse(content);
+        }
+        
+        String previous = null;
+        String next = null;
+        if (!content.isEmpty()) {
+            Item first = content.get(0);
+            Item last = content.get(content.size() - 1);
+            if (cursor != null && (!backward || more)) {
+                previous = new ItemCursor(first.getCreatedAt(), first.getId(), false).encode();
+            }
+            if (backward || more) {
+                next = new ItemCursor(last.getCreatedAt(), last.getId(), true).encode();
+            }
+        } else if (cursor != null) {
+            // 游标之后已无数据时仍允许回到游标位置
+            previous = cursor.isForward() ? new ItemCursor(cursor.getCreatedAt(), cursor.getId(), false).encode() : null;
+            next = cursor.isForward() ? null : new ItemCursor(cursor.getCreatedAt(), cursor.getId(), true).encode();
+        }
+        return new CursorPage<>(content, previous, next, approximateFeedTotal());
     }
     
-    /**
-     * 获取最近发布的物品
-     */
-    public Page<Item> getRecentItems(Pageable pageable) {
-        return itemRepository.findRecentItems(pageable);
+    private long approximateFeedTotal() {
+        ItemEnumFilter filter = new ItemEnumFilter();
+        for (Item.ItemStatus status : Item.ItemStatus.values()) {
+            if (status != Item.ItemStatus.COMPLETED) {
+                filter.status(status);
+            }
+        }
+        return enumBitmapIndex.count(filter);
     }
     
     /**
@@ -244,31 +322,18 @@ public class ItemService {
         item.setApprovalNote(approvalNote);
         item.setApprovedAt(LocalDateTime.now());
         item.setStatus(Item.ItemStatus.PENDING_CLAIM);
+        // 待审核期间时间权重可能已下降，按审核时刻重新计算
+        item.calculateTotalWeight();
         
         itemRepository.save(item);
+        publishLifecycle(item, ItemLifecycleEvent.Type.APPROVED);
         log.info("物品审核通过: {}", item.getTitle());
         
-        // 发送审核通过通知
-        notificationService.notifyItemApproved(item);
-        
-        // 物品审核通过后进行匹配
-        try {
-            List<ItemMatch> createdMatches = matchingService.findAndCreateMatches(item);
-            if (!createdMatches.isEmpty()) {
-                // 发送匹配列表通知
-                List<Item> matchingItems = new ArrayList<>();
-                for (ItemMatch match : createdMatches) {
-                    if (item.getPostType() == Item.PostType.LOST) {
-                        matchingItems.add(match.getFoundItem());
-                    } else {
-                        matchingItems.add(match.getLostItem());
-                    }
-                }
-                notificationService.notifyMatchingList(item.getOwner(), item, matchingItems);
-            }
-        } catch (Exception e) {
-            log.error("物品审核后匹配失败: {}", e.getMessage());
-        }
+        // 审核通知与匹配写入发件箱，随审核结果一起提交后由 OutboxRelay 投递
+        String approvalKey = item.getId() + ":" + item.getApprovedAt();
+        outboxService.enqueueNotification("item-approved:" + approvalKey, item.getOwner(),
+                NotificationContent.itemApproved(item));
+        outboxService.enqueueItemMatching("item-matching:" + approvalKey, item);
     }
     
     /**
@@ -285,6 +350,7 @@ public class ItemService {
         item.setApprovalNote(rejectionNote);
         item.setApprovedAt(LocalDateTime.now());
         itemRepository.save(item);
+        publishLifecycle(item, ItemLifecycleEvent.Type.STATUS_CHANGED);
         
         // 向发布者发送驳回通知（不关联具体物品，避免物品删除时通知被一并清理）
         try {
@@ -319,6 +385,7 @@ public class ItemService {
         
         item.setStatus(status);
         itemRepository.save(item);
+        publishLifecycle(item, ItemLifecycleEvent.Type.STATUS_CHANGED);
         
         log.info("物品状态更新: {} -> {}", item.getTitle(), status.getDescription());
     }
@@ -328,7 +395,9 @@ public class ItemService {
      */
     @Transactional
     public Item save(Item item) {
-        return itemRepository.save(item);
+        Item saved = itemRepository.save(item);
+        publishLifecycle(saved, ItemLifecycleEvent.Type.UPDATED);
+        return saved;
     }
     
     /**
@@ -348,11 +417,13 @@ public class ItemService {
 
         // 先清理依赖关系（匹配、认领、通知、举报）
         itemMatchRepository.deleteByItem(item);
-        claimRepository.deleteByItem(item);
+        // 认领逐条经实体管理器删除，统计计数器的实体监听器才能记下减量
+        claimRepository.deleteAll(claimRepository.findItemClaims(item));
         notificationRepository.deleteByRelatedItem(item);
         reportRepository.deleteByItemIdNative(item.getId());
 
         itemRepository.delete(item);
+        publishLifecycle(item, ItemLifecycleEvent.Type.DELETED);
         log.info("物品删除成功: {}", item.getTitle());
     }
 
@@ -379,10 +450,11 @@ public class ItemService {
         List<Item> candidates = itemRepository.findMatchingItemsByWeight(
                 oppositeType, item.getTotalWeight(), item.getLocation());
         
-        // 过滤掉已经匹配过的物品
+        // 过滤掉已经匹配过的物品（一次查询取出已有匹配，在内存中过滤）
+        LongHashSet matchedIds = matchingService.findActivePartnerIds(item);
         List<Item> matchingItems = new ArrayList<>();
         for (Item candidate : candidates) {
-            if (!itemMatchRepository.existsMatchBetweenItems(item, candidate)) {
+            if (!matchedIds.contains(candidate.getId())) {
                 matchingItems.add(candidate);
             }
         }
@@ -391,26 +463,13 @@ public class ItemService {
     }
     
     /**
-     * 创建匹配记录
+     * 创建匹配记录；两物品间已有活跃匹配时返回已有记录
      */
     @Transactional
     public ItemMatch createMatch(Item item1, Item item2) {
-        ItemMatch match = new ItemMatch();
-        
-        // 确定失物和拾获物品
-        if (item1.getPostType() == Item.PostType.LOST) {
-            match.setLostItem(item1);
-            match.setFoundItem(item2);
-        } else {
-            match.setLostItem(item2);
-            match.setFoundItem(item1);
-        }
-        
-        match.setMatchWeight(item1.getTotalWeight().doubleValue());
-        match.setMatchedAt(LocalDateTime.now());
-        match.setStatus(ItemMatch.MatchStatus.ACTIVE);
-        
-        return itemMatchRepository.save(match);
+        return matchingService.createMatchIfAbsent(item1, item2, item1.getTotalWeight().doubleValue())
+                .orElseGet(() -> itemMatchRepository.findByActivePairKey(
+                        ItemMatch.pairKey(item1.getId(), item2.getId())).orElse(null));
     }
     
     /**
@@ -457,23 +516,23 @@ public class ItemService {
      * 统计信息
      */
     public long countApprovedItems() {
-        return itemRepository.countApprovedItems();
+        return statCounterService.get(StatCounterService.Counter.ITEMS_APPROVED);
     }
     
     public long countLostItems() {
-        return itemRepository.countLostItems();
+        return statCounterService.get(StatCounterService.Counter.ITEMS_LOST);
     }
     
     public long countItems() {
-        return itemRepository.count();
+        return statCounterService.get(StatCounterService.Counter.ITEMS_TOTAL);
     }
     
     public long countFoundItems() {
-        return itemRepository.countFoundItems();
+        return statCounterService.get(StatCounterService.Counter.ITEMS_FOUND);
     }
     
     public long countCompletedItems() {
-        return itemRepository.countCompletedItems();
+        return statCounterService.get(StatCounterService.Counter.ITEMS_COMPLETED);
     }
     
     public List<Object[]> countItemsByCategory() {
@@ -486,21 +545,38 @@ public class ItemService {
     
     /**
      * 为单个物品给出候选匹配建议，返回带评分的列表
+     * 候选来自内存索引中同类别的桶，打分完成后只加载最终返回的物品
      */
     public List<com.campus.lostfound.service.dto.MatchCandidate> suggestMatchesForItem(Item item, int daysWindow, int maxResults) {
-        Item.PostType oppositeType = item.getPostType() == Item.PostType.LOST ?
-                Item.PostType.FOUND : Item.PostType.LOST;
-        LocalDateTime since = LocalDateTime.now().minusDays(daysWindow <= 0 ? 30 : daysWindow);
-        List<Item> candidates = itemRepository.findCandidateItemsSince(oppositeType, since);
-        List<com.campus.lostfound.service.dto.MatchCandidate> scored = new ArrayList<>();
+        Item.PostType oppositeType = oppositeOf(item);
+        int sinceMinute = ActiveItemStore.epochMinute(LocalDateTime.now().minusDays(daysWindow <= 0 ? 30 : daysWindow));
+        TopKHeap<ScoredCandidate> top = new TopKHeap<>(maxResults <= 0 ? 20 : maxResults, CANDIDATE_ORDER);
+        LongHashSet matchedIds = new LongHashSet();
 
         // 首先添加已经通过MatchingService创建的匹配记录
-        List<ItemMatch> existingMatches = matchingService.getMatchesForItem(item);
+        collectExistingMatches(item, matchingService.getMatchesForItem(item), top, matchedIds);
+
+        // 然后添加其他候选项：类别必须相同，只需扫描列式存储中同类别的分段
+        if (item.getCategory() != null) {
+            IndexedItem source = matchCandidateIndex.snapshotOf(item);
+            scoreIndexCandidates(source, oppositeType, sinceMinute, matchedIds, top);
+        }
+        return hydrate(top.toSortedList());
+    }
+
+    /**
+     * 已有匹配记录转为候选：活跃且对方仍有效的进入结果，所有对方ID记入 matchedIds
+     * 需要访问实体，必须在持有会话的线程中调用
+     */
+    private void collectExistingMatches(Item item, List<ItemMatch> existingMatches,
+                                        TopKHeap<ScoredCandidate> top, LongHashSet matchedIds) {
         for (ItemMatch match : existingMatches) {
-            if (match.getStatus() != ItemMatch.MatchStatus.ACTIVE) continue;
-            
             Item matchedItem = (item.getPostType() == Item.PostType.LOST) ? 
                 match.getFoundItem() : match.getLostItem();
+            if (matchedItem != null) {
+                matchedIds.add(matchedItem.getId());
+            }
+            if (match.getStatus() != ItemMatch.MatchStatus.ACTIVE) continue;
             
             if (matchedItem != null && matchedItem.isApproved() && matchedItem.isActive()) {
                 List<String> reasons = new ArrayList<>();
@@ -515,104 +591,193 @@ public class ItemService {
                     reasons.add("详细地点相同");
                 }
                 
-                scored.add(new com.campus.lostfound.service.dto.MatchCandidate(
-                    matchedItem, round2(match.getMatchWeight()), reasons));
+                top.offer(new ScoredCandidate(matchedItem.getId(), matchedItem, round2(match.getMatchWeight()), reasons));
             }
         }
+    }
 
-        // 然后添加其他候选项
-        for (Item candidate : candidates) {
-            if (candidate.getId().equals(item.getId())) continue;
-            if (!candidate.isApproved()) continue;
-            if (!candidate.isActive()) continue;
-            if (candidate.getStatus() == Item.ItemStatus.COMPLETED) continue; // 过滤掉已完成的候选物品
-            
-            // 检查是否已经在现有匹配中
-            boolean alreadyMatched = false;
-            for (ItemMatch match : existingMatches) {
-                Item matchedItem = (item.getPostType() == Item.PostType.LOST) ? 
-                    match.getFoundItem() : match.getLostItem();
-                if (matchedItem != null && matchedItem.getId().equals(candidate.getId())) {
-                    alreadyMatched = true;
-                    break;
-                }
-            }
-            if (alreadyMatched) continue;
+    /**
+     * 在列式存储上为候选打分，只使用内存数据，可在工作线程中并行调用
+     * 只有可能进入 Top-K 的候选才创建结果对象
+     */
+    private void scoreIndexCandidates(IndexedItem source, Item.PostType oppositeType, int sinceMinute,
+                                      LongHashSet matchedIds, TopKHeap<ScoredCandidate> top) {
+        int[] sourceTokens = source.getTokenIds();
+        long sourceId = source.getId() == null ? 0L : source.getId();
+        activeItemStore.scanSuggestions(oppositeType, source.getCategory().ordinal(), sinceMinute,
+                ActiveItemStore.ordinal(source.getLocation()), ActiveItemStore.ordinal(source.getDetailedLocation()),
+                ActiveItemStore.epochMinute(source.getLostFoundTime()),
+                (id, baseScore, flags, tokenIds) -> {
+                    if (id == sourceId) return;
+                    if (matchedIds.contains(id)) return; // 已经在现有匹配中
+                    // 文本相似度（标题+描述）占 0.10，有序词元ID归并计算，无需分词
+                    double textScore = TokenDictionary.jaccard(sourceTokens, tokenIds);
+                    double score = round2(baseScore / 100.0 + Math.min(0.10, textScore * 0.10));
+                    if (top.isFull() && !ranksBefore(score, id, top.worst())) return;
+                    top.offer(new ScoredCandidate(id, null, score, reasonsOf(flags, textScore)));
+                });
+    }
 
-            double score = 0.0;
-            List<String> reasons = new ArrayList<>();
+    private static boolean ranksBefore(double score, long id, ScoredCandidate other) {
+        return score > other.getScore() || (score == other.getScore() && id < other.getId());
+    }
 
-            // 类别必须相同，否则直接跳过
-            if (item.getCategory() == null || !item.getCategory().equals(candidate.getCategory())) {
-                continue; // 类别不同，跳过此候选项
-            }
-            score += 0.30; // 类别相同基础分
-            reasons.add("类别相同");
+    /**
+     * 根据打分内核的命中标记生成匹配原因
+     */
+    private static List<String> reasonsOf(int flags, double textScore) {
+        List<String> reasons = new ArrayList<>(4);
+        reasons.add("类别相同");
+        if ((flags & ActiveItemStore.SAME_LOCATION) != 0) reasons.add("地点相同");
+        if ((flags & ActiveItemStore.SAME_DETAILED_LOCATION) != 0) reasons.add("详细地点相同");
+        if ((flags & ActiveItemStore.TIME_VERY_CLOSE) != 0) reasons.add("时间非常接近");
+        else if ((flags & ActiveItemStore.TIME_CLOSE) != 0) reasons.add("时间较接近");
+        if (textScore >= 0.5) reasons.add("文本高度相似");
+        else if (textScore >= 0.25) reasons.add("文本有一定相似");
+        return reasons;
+    }
 
-            // 位置主类相同占 0.25
-            if (item.getLocation() != null && item.getLocation().equals(candidate.getLocation())) {
-                score += 0.25; reasons.add("地点相同");
-            }
-            // 详细地点相同占 0.20
-            if (item.getDetailedLocation() != null && item.getDetailedLocation().equals(candidate.getDetailedLocation())) {
-                score += 0.20; reasons.add("详细地点相同");
-            }
-            // 时间接近（丢失/拾获时间差 <= 3 天 -> 0.15；<= 7 天 -> 0.08）
-            if (item.getLostFoundTime() != null && candidate.getLostFoundTime() != null) {
-                long days = Math.abs(java.time.temporal.ChronoUnit.DAYS.between(item.getLostFoundTime(), candidate.getLostFoundTime()));
-                if (days <= 3) { score += 0.15; reasons.add("时间非常接近"); }
-                else if (days <= 7) { score += 0.08; reasons.add("时间较接近"); }
+    /**
+     * 批量加载打分结果对应的物品实体，保持排序
+     */
+    private List<com.campus.lostfound.service.dto.MatchCandidate> hydrate(List<ScoredCandidate> top) {
+        return toMatchCandidates(top, loadUnhydrated(List.of(top)));
+    }
+
+    /**
+     * 一次查询加载多组打分结果中尚未加载的物品实体
+     */
+    private Map<Long, Item> loadUnhydrated(List<List<ScoredCandidate>> groups) {
+        List<Long> missing = new ArrayList<>();
+        for (List<ScoredCandidate> group : groups) {
+            for (ScoredCandidate sc : group) {
+                if (sc.getItem() == null) missing.add(sc.getId());
             }
-            // 文本相似度（标题+描述）简单打分，占 0.10
-            double textScore = simpleTextSimilarity(item.getTitle() + " " + item.getDescription(),
-                    candidate.getTitle() + " " + candidate.getDescription());
-            score += Math.min(0.10, textScore * 0.10);
-            if (textScore >= 0.5) reasons.add("文本高度相似");
-            else if (textScore >= 0.25) reasons.add("文本有一定相似");
-
-            // 类别相同的情况下，降低阈值要求
-            if (score >= 0.30) { // 类别相同基础分即可通过
-                scored.add(new com.campus.lostfound.service.dto.MatchCandidate(candidate, round2(score), reasons));
+        }
+        Map<Long, Item> loaded = new HashMap<>();
+        if (!missing.isEmpty()) {
+            for (Item i : itemRepository.findAllById(missing)) {
+                loaded.put(i.getId(), i);
             }
         }
+        return loaded;
+    }
+
+    private List<com.campus.lostfound.service.dto.MatchCandidate> toMatchCandidates(List<ScoredCandidate> top,
+                                                                                   Map<Long, Item> loaded) {
+        List<com.campus.lostfound.service.dto.MatchCandidate> result = new ArrayList<>(top.size());
+        for (ScoredCandidate sc : top) {
+            Item candidate = sc.getItem() != null ? sc.getItem() : loaded.get(sc.getId());
+            if (candidate == null) continue; // 打分后被并发删除
+            result.add(new com.campus.lostfound.service.dto.MatchCandidate(candidate, sc.getScore(), sc.getReasons()));
+        }
+        return result;
+    }
 
-        return scored.stream()
-                .sorted(Comparator.comparingDouble(com.campus.lostfound.service.dto.MatchCandidate::getScore).reversed())
-                .limit(maxResults <= 0 ? 20 : maxResults)
-                .collect(Collectors.toList());
+    // 候选排序：分数降序，同分按物品ID升序，单个与批量建议共用保证结果一致
+    private static final Comparator<ScoredCandidate> CANDIDATE_ORDER =
+            Comparator.comparingDouble(ScoredCandidate::getScore).reversed()
+                    .thenComparing(ScoredCandidate::getId);
+
+    /**
+     * 打分中间结果，item 为空表示尚未加载实体
+     */
+    @lombok.Getter
+    @lombok.AllArgsConstructor
+    private static final class ScoredCandidate {
+        private final Long id;
+        private final Item item;
+        private final double score;
+        private final List<String> reasons;
     }
 
     /**
      * 获取用户所有物品的候选匹配分组
+     * 已有匹配一次查询取出，各物品在专用线程池上并行扫描列式存储打分，
+     * 结果与逐个调用 suggestMatchesForItem 相同
      */
     public List<com.campus.lostfound.service.dto.UserItemCandidates> suggestMatchesForUser(User user, int daysWindow, int limitPerItem) {
-        List<Item> myItems = getUserItems(user);
-        List<com.campus.lostfound.service.dto.UserItemCandidates> result = new ArrayList<>();
-        for (Item item : myItems) {
+        List<Item> myItems = new ArrayList<>();
+        for (Item item : getUserItems(user)) {
             if (!item.isApproved()) continue; // 只有已审核的物品参与匹配
             if (item.getStatus() == Item.ItemStatus.COMPLETED) continue; // 过滤掉已完成的物品
-            List<com.campus.lostfound.service.dto.MatchCandidate> list = suggestMatchesForItem(item, daysWindow, limitPerItem);
-            result.add(new com.campus.lostfound.service.dto.UserItemCandidates(item, list));
+            myItems.add(item);
+        }
+        if (myItems.isEmpty()) {
+            return new ArrayList<>();
+        }
+        int limit = limitPerItem <= 0 ? 20 : limitPerItem;
+        int sinceMinute = ActiveItemStore.epochMinute(LocalDateTime.now().minusDays(daysWindow <= 0 ? 30 : daysWindow));
+
+        // 一次查询取出用户相关的全部匹配记录，按本人物品分组
+        Map<Long, List<ItemMatch>> matchesByItem = new HashMap<>();
+        for (Item item : myItems) {
+            matchesByItem.put(item.getId(), new ArrayList<>());
+        }
+        for (ItemMatch match : itemMatchRepository.findByUserFetchItems(user)) {
+            List<ItemMatch> lostSide = matchesByItem.get(match.getLostItem().getId());
+            if (lostSide != null) lostSide.add(match);
+            List<ItemMatch> foundSide = matchesByItem.get(match.getFoundItem().getId());
+            if (foundSide != null) foundSide.add(match);
+        }
+
+        // 访问实体的部分在当前线程完成，并行阶段只读内存快照
+        List<SuggestionTask> tasks = new ArrayList<>(myItems.size());
+        for (Item item : myItems) {
+            SuggestionTask task = new SuggestionTask(item, new TopKHeap<>(limit, CANDIDATE_ORDER), new LongHashSet());
+            collectExistingMatches(item, matchesByItem.get(item.getId()), task.top, task.matchedIds);
+            if (item.getCategory() != null) {
+                task.source = matchCandidateIndex.snapshotOf(item);
+                task.oppositeType = oppositeOf(item);
+            }
+            tasks.add(task);
+        }
+
+        matchScoringPool.submit(() -> tasks.parallelStream()
+                .filter(task -> task.source != null)
+                .forEach(task -> scoreIndexCandidates(task.source, task.oppositeType, sinceMinute,
+                        task.matchedIds, task.top)))
+                .join();
+
+        List<List<ScoredCandidate>> tops = new ArrayList<>(tasks.size());
+        for (SuggestionTask task : tasks) {
+            tops.add(task.top.toSortedList());
+        }
+        Map<Long, Item> loaded = loadUnhydrated(tops);
+        List<com.campus.lostfound.service.dto.UserItemCandidates> result = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            result.add(new com.campus.lostfound.service.dto.UserItemCandidates(tasks.get(i).item,
+                    toMatchCandidates(tops.get(i), loaded)));
         }
         return result;
     }
 
-    private double simpleTextSimilarity(String a, String b) {
-        if (a == null || b == null) return 0.0;
-        String[] tokensA = a.toLowerCase().replaceAll("[^\\u4e00-\\u9fa5a-z0-9]", " ").split("\\s+");
-        String[] tokensB = b.toLowerCase().replaceAll("[^\\u4e00-\\u9fa5a-z0-9]", " ").split("\\s+");
-        java.util.Set<String> setA = new java.util.HashSet<>();
-        java.util.Set<String> setB = new java.util.HashSet<>();
-        for (String t : tokensA) { if (t.length() >= 2) setA.add(t); }
-        for (String t : tokensB) { if (t.length() >= 2) setB.add(t); }
-        if (setA.isEmpty() || setB.isEmpty()) return 0.0;
-        java.util.Set<String> inter = new java.util.HashSet<>(setA);
-        inter.retainAll(setB);
-        double jaccard = (double) inter.size() / (double) (setA.size() + setB.size() - inter.size());
-        return jaccard; // 0~1
+    /**
+     * 批量建议中单个物品的打分任务
+     */
+    private static final class SuggestionTask {
+        private final Item item;
+        private final TopKHeap<ScoredCandidate> top;
+        private final LongHashSet matchedIds;
+        private IndexedItem source;
+        private Item.PostType oppositeType;
+
+        private SuggestionTask(Item item, TopKHeap<ScoredCandidate> top, LongHashSet matchedIds) {
+            this.item = item;
+            this.top = top;
+            this.matchedIds = matchedIds;
+        }
+    }
+
+    private Item.PostType oppositeOf(Item item) {
+        return item.getPostType() == Item.PostType.LOST ? Item.PostType.FOUND : Item.PostType.LOST;
     }
 
     private double round2(double v) { return Math.round(v * 100.0) / 100.0; }
+
+    private void publishLifecycle(Item item, ItemLifecycleEvent.Type type) {
+        eventPublisher.publishEvent(new ItemLifecycleEvent(this, item, type));
+    }
     
     /**
      * 从文本中提取关键词
@@ -636,10 +801,8 @@ public class ItemService {
         if (source.getPostType() == candidate.getPostType()) {
             throw new RuntimeException("匹配类型不符");
         }
-        if (itemMatchRepository.existsMatchBetweenItems(source, candidate)) {
-            List<ItemMatch> existing = itemMatchRepository.findMatchBetweenItems(source, candidate);
-            return existing.isEmpty() ? null : existing.get(0);
-        }
-        return matchingService.createMatch(source, candidate, snapshotScore);
+        return matchingService.createMatchIfAbsent(source, candidate, snapshotScore)
+                .orElseGet(() -> itemMatchRepository.findByActivePairKey(
+                        ItemMatch.pairKey(source.getId(), candidate.getId())).orElse(null));
     }
 }
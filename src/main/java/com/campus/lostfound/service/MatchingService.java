@@ -2,19 +2,27 @@ package com.campus.lostfound.service;
 
 import com.campus.lostfound.entity.Item;
 import com.campus.lostfound.entity.ItemMatch;
+import com.campus.lostfound.matching.ActiveItemStore;
+import com.campus.lostfound.observer.ItemMatchEventBus;
 import com.campus.lostfound.observer.ItemMatchObserver;
 import com.campus.lostfound.observer.ItemMatchSubject;
 import com.campus.lostfound.repository.ItemMatchRepository;
 import com.campus.lostfound.repository.ItemRepository;
+import com.campus.lostfound.util.LongHashSet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -25,9 +33,9 @@ public class MatchingService implements ItemMatchSubject {
     private final ItemRepository itemRepository;
     private final ItemMatchRepository itemMatchRepository;
     private final NotificationService notificationService;
-    
-    // 观察者列表 - 使用线程安全的CopyOnWriteArrayList
-    private final List<ItemMatchObserver> observers = new CopyOnWriteArrayList<>();
+    private final ActiveItemStore activeItemStore;
+    private final ItemMatchEventBus itemMatchEventBus;
+    private final JdbcTemplate jdbcTemplate;
 
     @Transactional
     public List<ItemMatch> findAndCreateMatches(Item item) {
@@ -37,68 +45,98 @@ public class MatchingService implements ItemMatchSubject {
         Item.PostType oppositeType = item.getPostType() == Item.PostType.LOST ?
                 Item.PostType.FOUND : Item.PostType.LOST;
 
-        // 查找相同权重、相同地点、相反类型的已审核物品
-        List<Item> candidates = itemRepository.findMatchingItemsByWeight(
-                oppositeType, item.getTotalWeight(), item.getLocation());
+        if (item.getTotalWeight() == null || item.getLocation() == null) {
+            return createdMatches;
+        }
 
-        log.info("找到 {} 个候选匹配物品", candidates.size());
+        // 在列式存储中扫描相同权重、相同地点、相反类型的已审核物品并打分
+        Map<Long, Double> scores = new HashMap<>();
+        long itemId = item.getId();
+        activeItemStore.scanWeightMatches(oppositeType, item.getTotalWeight(),
+                ActiveItemStore.ordinal(item.getLocation()), ActiveItemStore.ordinal(item.getDetailedLocation()),
+                ActiveItemStore.ordinal(item.getCategory()),
+                (candidateId, score) -> {
+                    if (candidateId != itemId && score >= 0.7) { // 假设匹配度阈值为0.7
+                        scores.put(candidateId, score);
+                    }
+                });
+
+        log.info("找到 {} 个候选匹配物品", scores.size());
+        if (scores.isEmpty()) {
+            return createdMatches;
+        }
 
-        for (Item candidate : candidates) {
-            // 检查是否已经匹配过
-            if (!itemMatchRepository.existsMatchBetweenItems(item, candidate)) {
-                double matchScore = calculateMatchScore(item, candidate);
-                if (matchScore >= 0.7) { // 假设匹配度阈值为0.7
-                    ItemMatch match = createMatch(item, candidate, matchScore);
-                    createdMatches.add(match);
-                    // 使用观察者模式通知所有观察者
-                    notifyMatchFound(match);
-                    log.info("创建匹配记录: item1={}, item2={}, score={}", item.getId(), candidate.getId(), matchScore);
-                }
-            }
+        // 已存在活跃匹配的对由唯一索引忽略，无需预先查询
+        for (Item candidate : itemRepository.findAllById(scores.keySet())) {
+            double matchScore = scores.get(candidate.getId());
+            createMatchIfAbsent(item, candidate, matchScore).ifPresent(match -> {
+                createdMatches.add(match);
+                // 使用观察者模式通知所有观察者
+                notifyMatchFound(match);
+                log.info("创建匹配记录: item1={}, item2={}, score={}", item.getId(), candidate.getId(), matchScore);
+            });
         }
         return createdMatches;
     }
 
+    /**
+     * 为审核通过的物品执行匹配并发送匹配列表通知（由发件箱投递事务或匹配队列调用）
+     * 已存在的匹配会被跳过，重复执行是幂等的
+     */
     @Transactional
-    public ItemMatch createMatch(Item item1, Item item2, double matchScore) {
-        ItemMatch match = new ItemMatch();
-        if (item1.getPostType() == Item.PostType.LOST) {
-            match.setLostItem(item1);
-            match.setFoundItem(item2);
-        } else {
-            match.setLostItem(item2);
-            match.setFoundItem(item1);
+    public void runMatchingForItem(Long itemId) {
+        Item item = itemRepository.findById(itemId).orElse(null);
+        if (item == null || !Boolean.TRUE.equals(item.getApproved())
+                || item.getStatus() != Item.ItemStatus.PENDING_CLAIM) {
+            log.debug("物品 {} 已不在待认领状态，跳过匹配", itemId);
+            return;
         }
-        match.setMatchWeight(matchScore);
-        match.setMatchedAt(LocalDateTime.now());
-        match.setStatus(ItemMatch.MatchStatus.ACTIVE);
-        return itemMatchRepository.save(match);
-    }
-
-    private double calculateMatchScore(Item item1, Item item2) {
-        double score = 0.0;
-
-        // 基础权重匹配 (40%)
-        if (item1.getTotalWeight().equals(item2.getTotalWeight())) {
-            score += 0.4;
+        List<ItemMatch> createdMatches = findAndCreateMatches(item);
+        if (!createdMatches.isEmpty()) {
+            // 发送匹配列表通知
+            List<Item> matchingItems = new ArrayList<>();
+            for (ItemMatch match : createdMatches) {
+                if (item.getPostType() == Item.PostType.LOST) {
+                    matchingItems.add(match.getFoundItem());
+                } else {
+                    matchingItems.add(match.getLostItem());
+                }
+            }
+            notificationService.notifyMatchingList(item.getOwner(), item, matchingItems);
         }
+    }
 
-        // 地点匹配 (30%)
-        if (item1.getLocation().equals(item2.getLocation())) {
-            score += 0.3;
+    /**
+     * 获取与指定物品存在活跃匹配的对方物品ID集合
+     */
+    public LongHashSet findActivePartnerIds(Item item) {
+        if (item == null || item.getId() == null) {
+            return new LongHashSet();
         }
+        return LongHashSet.of(itemMatchRepository.findActivePartnerIds(item.getId()));
+    }
 
-        // 详细地点匹配 (20%)
-        if (item1.getDetailedLocation() != null && item2.getDetailedLocation() != null &&
-                item1.getDetailedLocation().equals(item2.getDetailedLocation())) {
-            score += 0.2;
+    /**
+     * 两个物品间不存在活跃匹配时创建，返回新建的匹配；已存在（含并发创建）时返回空
+     */
+    @Transactional
+    public Optional<ItemMatch> createMatchIfAbsent(Item item1, Item item2, double matchScore) {
+        Item lostItem = item1.getPostType() == Item.PostType.LOST ? item1 : item2;
+        Item foundItem = lostItem == item1 ? item2 : item1;
+        String pairKey = ItemMatch.pairKey(lostItem.getId(), foundItem.getId());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int inserted;
+        try {
+            inserted = jdbcTemplate.update(ItemMatchRepository.INSERT_ACTIVE_IF_ABSENT_SQL,
+                    lostItem.getId(), foundItem.getId(), pairKey, matchScore, now, now, now);
+        } catch (DuplicateKeyException e) {
+            // 并发事务已插入同一对
+            inserted = 0;
         }
-
-        // 类别匹配 (10%)
-        if (item1.getCategory().equals(item2.getCategory())) {
-            score += 0.1;
+        if (inserted == 0) {
+            return Optional.empty();
         }
-        return score;
+        return itemMatchRepository.findByActivePairKey(pairKey);
     }
 
     public List<ItemMatch> getMatchesForItem(Item item) {
@@ -112,11 +150,12 @@ public class MatchingService implements ItemMatchSubject {
     }
     
     // ========== 观察者模式实现 ==========
+    // 观察者由事件总线管理，事件在事务提交后异步投递
     
     @Override
     public void addObserver(ItemMatchObserver observer) {
-        if (observer != null && !observers.contains(observer)) {
-            observers.add(observer);
+        if (observer != null) {
+            itemMatchEventBus.register(observer);
             log.debug("添加观察者: {}", observer.getClass().getSimpleName());
         }
     }
@@ -124,44 +163,23 @@ public class MatchingService implements ItemMatchSubject {
     @Override
     public void removeObserver(ItemMatchObserver observer) {
         if (observer != null) {
-            observers.remove(observer);
+            itemMatchEventBus.unregister(observer);
             log.debug("移除观察者: {}", observer.getClass().getSimpleName());
         }
     }
     
     @Override
     public void notifyMatchFound(ItemMatch match) {
-        log.debug("通知 {} 个观察者匹配已找到", observers.size());
-        for (ItemMatchObserver observer : observers) {
-            try {
-                observer.onMatchFound(match);
-            } catch (Exception e) {
-                log.error("通知观察者时发生错误: {}", e.getMessage(), e);
-            }
-        }
+        itemMatchEventBus.publish(ItemMatchEventBus.Kind.FOUND, match);
     }
     
     @Override
     public void notifyMatchUpdated(ItemMatch match) {
-        log.debug("通知 {} 个观察者匹配已更新", observers.size());
-        for (ItemMatchObserver observer : observers) {
-            try {
-                observer.onMatchUpdated(match);
-            } catch (Exception e) {
-                log.error("通知观察者时发生错误: {}", e.getMessage(), e);
-            }
-        }
+        itemMatchEventBus.publish(ItemMatchEventBus.Kind.UPDATED, match);
     }
     
     @Override
     public void notifyMatchCancelled(ItemMatch match) {
-        log.debug("通知 {} 个观察者匹配已取消", observers.size());
-        for (ItemMatchObserver observer : observers) {
-            try {
-                observer.onMatchCancelled(match);
-            } catch (Exception e) {
-                log.error("通知观察者时发生错误: {}", e.getMessage(), e);
-            }
-        }
+        itemMatchEventBus.publish(ItemMatchEventBus.Kind.CANCELLED, match);
     }
 }
@@ -1,12 +1,17 @@
 package com.campus.lostfound.service;
 
+import com.campus.lostfound.dto.NotificationContent;
+import com.campus.lostfound.dto.NotificationMessage;
 import com.campus.lostfound.entity.Item;
 import com.campus.lostfound.entity.ItemMatch;
 import com.campus.lostfound.entity.Notification;
 import com.campus.lostfound.entity.User;
+import com.campus.lostfound.event.NotificationEvent;
 import com.campus.lostfound.repository.NotificationRepository;
+import com.campus.lostfound.stats.UnreadCounterStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -26,6 +31,8 @@ public class NotificationService {
     
     private final NotificationRepository notificationRepository;
     private final com.campus.lostfound.repository.UserRepository userRepository;
+    private final UnreadCounterStore unreadCounterStore;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * 获取用户的通知
@@ -45,7 +52,8 @@ public class NotificationService {
      * 获取用户未读通知数量
      */
     public int getUnreadCount(User user) {
-        return (int) notificationRepository.countUnreadByUser(user);
+        return (int) unreadCounterStore.get(user.getId(), UnreadCounterStore.Kind.NOTIFICATION,
+                () -> notificationRepository.countUnreadByUser(user));
     }
     
     /**
@@ -60,8 +68,12 @@ public class NotificationService {
             throw new RuntimeException("无权限操作此通知");
         }
         
+        if (!Boolean.TRUE.equals(notification.getIsRead())) {
+            unreadCounterStore.record(user.getId(), UnreadCounterStore.Kind.NOTIFICATION, -1);
+        }
         notification.markAsRead();
         notificationRepository.save(notification);
+        eventPublisher.publishEvent(NotificationEvent.unreadChanged(this, user.getId()));
         
         log.info("通知标记为已读: {}", notificationId);
     }
@@ -71,7 +83,9 @@ public class NotificationService {
      */
     @Transactional
     public void markAllAsRead(User user) {
-        notificationRepository.markAllAsReadByUser(user);
+        int marked = notificationRepository.markAllAsReadByUser(user);
+        unreadCounterStore.record(user.getId(), UnreadCounterStore.Kind.NOTIFICATION, -marked);
+        eventPublisher.publishEvent(NotificationEvent.unreadChanged(this, user.getId()));
         log.info("用户所有通知标记为已读: {}", user.getUsername());
     }
 
@@ -81,6 +95,8 @@ public class NotificationService {
     @Transactional
     public void deleteAll(User user) {
         notificationRepository.deleteAllByUser(user);
+        unreadCounterStore.invalidate(user.getId(), UnreadCounterStore.Kind.NOTIFICATION);
+        eventPublisher.publishEvent(NotificationEvent.unreadChanged(this, user.getId()));
         log.info("用户所有通知已删除: {}", user.getUsername());
     }
     
@@ -99,21 +115,25 @@ public class NotificationService {
         notification.setIsRead(false);
         
         notificationRepository.save(notification);
+        unreadCounterStore.record(user.getId(), UnreadCounterStore.Kind.NOTIFICATION, 1);
+        eventPublisher.publishEvent(NotificationEvent.created(this, user.getId(), NotificationMessage.of(notification)));
         log.info("发送通知: {} -> {}", type.getDescription(), user.getUsername());
     }
     
+    /**
+     * 按通知内容发送
+     */
+    @Transactional
+    public void send(User user, NotificationContent content) {
+        sendNotification(user, content.getType(), content.getTitle(), content.getContent(), content.getRelatedItem());
+    }
+    
     /**
      * 发送物品审核通过通知
      */
     @Transactional
     public void notifyItemApproved(Item item) {
-        sendNotification(
-            item.getOwner(),
-            Notification.NotificationType.ITEM_APPROVED,
-            "物品审核通过",
-            "您的物品《" + item.getTitle() + "》已通过审核，现在可以在搜索中看到。",
-            item
-        );
+        send(item.getOwner(), NotificationContent.itemApproved(item));
     }
     
     /**
@@ -121,13 +141,7 @@ public class NotificationService {
      */
     @Transactional
     public void notifyItemRejected(Item item, String reason) {
-        sendNotification(
-            item.getOwner(),
-            Notification.NotificationType.ITEM_REJECTED,
-            "物品审核拒绝",
-            "您的物品《" + item.getTitle() + "》未通过审核。原因：" + reason,
-            item
-        );
+        send(item.getOwner(), NotificationContent.itemRejected(item, reason));
     }
     
     /**
@@ -205,13 +219,7 @@ public class NotificationService {
      */
     @Transactional
     public void notifyClaimApproved(User claimant, Item item) {
-        sendNotification(
-            claimant,
-            Notification.NotificationType.CLAIM_APPROVED,
-            "认领审核通过",
-            "您对《" + item.getTitle() + "》的认领申请已通过审核。",
-            item
-        );
+        send(claimant, NotificationContent.claimApproved(item));
     }
     
     /**
@@ -219,13 +227,7 @@ public class NotificationService {
      */
     @Transactional
     public void notifyClaimRejected(User claimant, Item item, String reason) {
-        sendNotification(
-            claimant,
-            Notification.NotificationType.CLAIM_REJECTED,
-            "认领审核拒绝",
-            "您对《" + item.getTitle() + "》的认领申请未通过审核。原因：" + reason,
-            item
-        );
+        send(claimant, NotificationContent.claimRejected(item, reason));
     }
     
     /**
@@ -271,13 +273,7 @@ public class NotificationService {
      */
     @Transactional
     public void notifySystemMessage(User user, String title, String content) {
-        sendNotification(
-            user,
-            Notification.NotificationType.SYSTEM_NOTIFICATION,
-            title,
-            content,
-            null
-        );
+        send(user, NotificationContent.systemMessage(title, content));
     }
     
     /**
@@ -292,7 +288,11 @@ public class NotificationService {
             throw new RuntimeException("无权限删除此通知");
         }
         
+        if (!Boolean.TRUE.equals(notification.getIsRead())) {
+            unreadCounterStore.record(user.getId(), UnreadCounterStore.Kind.NOTIFICATION, -1);
+        }
         notificationRepository.delete(notification);
+        eventPublisher.publishEvent(NotificationEvent.unreadChanged(this, user.getId()));
         log.info("删除通知: {}", notificationId);
     }
 }
\ No newline at end of file
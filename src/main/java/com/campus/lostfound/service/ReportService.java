@@ -1,9 +1,11 @@
 package com.campus.lostfound.service;
 
+import com.campus.lostfound.dto.NotificationContent;
 import com.campus.lostfound.dto.ReportInfo;
 import com.campus.lostfound.entity.Item;
 import com.campus.lostfound.entity.Report;
 import com.campus.lostfound.entity.User;
+import com.campus.lostfound.outbox.OutboxService;
 import com.campus.lostfound.repository.ItemRepository;
 import com.campus.lostfound.repository.ReportRepository;
 import com.campus.lostfound.repository.UserRepository;
@@ -21,6 +23,7 @@ public class ReportService {
     private final NotificationService notificationService;
     private final ItemService itemService;
     private final UserRepository userRepository;
+    private final OutboxService outboxService;
 
     @Transactional
     public Report submit(Long itemId, User reporter, String reason) {
@@ -80,14 +83,11 @@ public class ReportService {
         // 删除举报
         reportRepository.deleteReportByIdNative(reportId);
 
-        // 通知举报人
-        if (reporter != null) {
-            notificationService.notifySystemMessage(reporter, "举报已受理", "您对《" + itemTitle + "》的举报被受理，平台已处理该内容。");
-        }
-        // 通知发布者
-        if (itemOwner != null) {
-            notificationService.notifySystemMessage(itemOwner, "内容被删除", "您的发布《" + itemTitle + "》因被举报并经审核确认，已被平台删除。" + (reason == null ? "" : " 原因：" + reason));
-        }
+        // 通知举报人与发布者：写入发件箱，随删除一起提交
+        outboxService.enqueueNotification("report-accepted:" + reportId + ":reporter", reporter,
+                NotificationContent.reportAccepted(itemTitle));
+        outboxService.enqueueNotification("report-accepted:" + reportId + ":owner", itemOwner,
+                NotificationContent.itemRemovedByReport(itemTitle, reason));
     }
 }
 
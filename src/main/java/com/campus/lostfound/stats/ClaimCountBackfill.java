@@ -0,0 +1,31 @@
+package com.campus.lostfound.stats;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 启动时校准物品的认领申请数
+ * 旧数据新增 claim_count 列后默认为 0，按 claims 表重新统计写回；
+ * 只更新与实际不符的行，已一致时影响 0 行
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClaimCountBackfill {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int updated = jdbcTemplate.update(
+                "UPDATE items i SET claim_count = (SELECT COUNT(*) FROM claims c WHERE c.item_id = i.id) " +
+                "WHERE claim_count <> (SELECT COUNT(*) FROM claims c WHERE c.item_id = i.id)");
+        if (updated > 0) {
+            log.info("物品认领申请数校准完成：更新 {} 条", updated);
+        }
+    }
+}
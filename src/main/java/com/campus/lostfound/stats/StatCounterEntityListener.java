@@ -0,0 +1,109 @@
+package com.campus.lostfound.stats;
+
+import com.campus.lostfound.entity.Claim;
+import com.campus.lostfound.entity.Item;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+import static com.campus.lostfound.stats.StatCounterService.Counter;
+
+/**
+ * 统计计数器实体监听器
+ * 物品、认领每次加载或写入时记下它计入的计数器取值，插入、更新、删除后按前后差值向 StatCounterService 登记增量。
+ * 由 Hibernate 通过 Spring 容器创建；StatCounterService 间接依赖实体管理器工厂，因此延迟获取
+ */
+public class StatCounterEntityListener {
+
+    private final ObjectProvider<StatCounterService> statCounterService;
+
+    public StatCounterEntityListener(ObjectProvider<StatCounterService> statCounterService) {
+        this.statCounterService = statCounterService;
+    }
+
+    @PostLoad
+    public void onLoad(Object entity) {
+        setSnapshot(entity, contributions(entity));
+    }
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        long[] after = contributions(entity);
+        record(after, null);
+        setSnapshot(entity, after);
+    }
+
+    @PostUpdate
+    public void onUpdate(Object entity) {
+        long[] before = getSnapshot(entity);
+        long[] after = contributions(entity);
+        // 未经加载的游离实体不知道原值，交给定期校准修正
+        if (before != null) {
+            record(after, before);
+        }
+        setSnapshot(entity, after);
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        long[] before = getSnapshot(entity);
+        record(null, before != null ? before : contributions(entity));
+        setSnapshot(entity, null);
+    }
+
+    private void record(long[] after, long[] before) {
+        long[] deltas = new long[StatCounterService.size()];
+        for (int i = 0; i < deltas.length; i++) {
+            deltas[i] = (after == null ? 0 : after[i]) - (before == null ? 0 : before[i]);
+        }
+        StatCounterService service = statCounterService.getIfAvailable();
+        if (service != null) {
+            service.record(deltas);
+        }
+    }
+
+    /**
+     * 实体当前状态计入各计数器的取值（0 或 1），口径与 StatCounterService 的源表统计一致
+     */
+    static long[] contributions(Object entity) {
+        long[] values = new long[StatCounterService.size()];
+        if (entity instanceof Item item) {
+            boolean approved = Boolean.TRUE.equals(item.getApproved());
+            set(values, Counter.ITEMS_TOTAL, true);
+            set(values, Counter.ITEMS_APPROVED, approved);
+            set(values, Counter.ITEMS_LOST, approved && item.getPostType() == Item.PostType.LOST);
+            set(values, Counter.ITEMS_FOUND, approved && item.getPostType() == Item.PostType.FOUND);
+            set(values, Counter.ITEMS_COMPLETED, item.getStatus() == Item.ItemStatus.COMPLETED);
+        } else if (entity instanceof Claim claim) {
+            set(values, Counter.CLAIMS_TOTAL, true);
+            set(values, Counter.CLAIMS_SUBMITTED, claim.getStatus() == Claim.ClaimStatus.SUBMITTED);
+            set(values, Counter.CLAIMS_APPROVED, claim.getStatus() == Claim.ClaimStatus.APPROVED);
+            set(values, Counter.CLAIMS_COMPLETED, claim.getStatus() == Claim.ClaimStatus.COMPLETED);
+        }
+        return values;
+    }
+
+    private static void set(long[] values, Counter counter, boolean counted) {
+        values[counter.ordinal()] = counted ? 1 : 0;
+    }
+
+    private static long[] getSnapshot(Object entity) {
+        if (entity instanceof Item item) {
+            return item.getCounterSnapshot();
+        }
+        if (entity instanceof Claim claim) {
+            return claim.getCounterSnapshot();
+        }
+        return null;
+    }
+
+    private static void setSnapshot(Object entity, long[] snapshot) {
+        if (entity instanceof Item item) {
+            item.setCounterSnapshot(snapshot);
+        } else if (entity instanceof Claim claim) {
+            claim.setCounterSnapshot(snapshot);
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package com.campus.lostfound.stats;
+
+import com.campus.lostfound.entity.StatCounter;
+import com.campus.lostfound.repository.ClaimRepository;
+import com.campus.lostfound.repository.ItemRepository;
+import com.campus.lostfound.repository.StatCounterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 统计计数器服务
+ * 物品、认领的状态变化由实体监听器换算成计数器增量，随业务事务提交后累加到内存中的 LongAdder（回滚则丢弃）；
+ * 定时任务把累计增量批量写入 stat_counters 表，读取时为“已落库值 + 未落库增量”，无需 COUNT 扫描。
+ * 启动时及每天定时按源表重新统计校准，修正漏记（如绕过实体的批量 SQL）带来的偏差；
+ * 登记过增量的事务从首次登记到增量生效一直持有读锁，校准统计期间持有写锁，
+ * 统计结果与待落库增量的分界因此是确定的：统计前提交的事务增量已生效并被扣除，统计期间的事务等统计结束后才提交
+ */
+@Service
+@Slf4j
+public class StatCounterService {
+
+    /**
+     * 计数器
+     */
+    public enum Counter {
+        ITEMS_TOTAL("物品总数"),
+        ITEMS_APPROVED("已审核物品"),
+        ITEMS_LOST("失物"),
+        ITEMS_FOUND("拾获"),
+        ITEMS_COMPLETED("已完成物品"),
+        CLAIMS_TOTAL("认领总数"),
+        CLAIMS_SUBMITTED("待审核认领"),
+        CLAIMS_APPROVED("已通过认领"),
+        CLAIMS_COMPLETED("已完成认领");
+
+        private final String description;
+
+        Counter(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    private static final Counter[] COUNTERS = Counter.values();
+    private static final long RECOUNT_LOCK_TIMEOUT_SECONDS = 30;
+
+    private final StatCounterRepository statCounterRepository;
+    private final ItemRepository itemRepository;
+    private final ClaimRepository claimRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 已落库的值
+    private final AtomicLong[] persisted = new AtomicLong[COUNTERS.length];
+    // 已提交、尚未落库的增量
+    private final LongAdder[] pending = new LongAdder[COUNTERS.length];
+    // 落库与校准互斥
+    private final Object flushLock = new Object();
+    // 事务增量（读）与校准统计（写）互斥
+    private final ReentrantReadWriteLock recountLock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+
+    public StatCounterService(StatCounterRepository statCounterRepository,
+                              ItemRepository itemRepository,
+                              ClaimRepository claimRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.statCounterRepository = statCounterRepository;
+        this.itemRepository = itemRepository;
+        this.claimRepository = claimRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        for (int i = 0; i < COUNTERS.length; i++) {
+            persisted[i] = new AtomicLong();
+            pending[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 读取计数器当前值
+     */
+    public long get(Counter counter) {
+        if (!ready) {
+            // 首次校准完成前直接查源表
+            return recount(counter);
+        }
+        int i = counter.ordinal();
+        return persisted[i].get() + pending[i].sum();
+    }
+
+    /**
+     * 记录增量：事务中登记到当前事务，提交后生效；无事务时立即生效
+     */
+    public void record(long[] deltas) {
+        if (isZero(deltas)) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            lockForDeltas();
+            try {
+                apply(deltas);
+            } finally {
+                recountLock.readLock().unlock();
+            }
+            return;
+        }
+        long[] bound = (long[]) TransactionSynchronizationManager.getResource(this);
+        if (bound == null) {
+            long[] perTransaction = new long[COUNTERS.length];
+            // 持有到增量生效，校准统计不会落在提交与生效之间
+            lockForDeltas();
+            TransactionSynchronizationManager.bindResource(this, perTransaction);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(StatCounterService.this);
+                    try {
+                        if (status == STATUS_COMMITTED) {
+                            apply(perTransaction);
+                        }
+                    } finally {
+                        recountLock.readLock().unlock();
+                    }
+                }
+            });
+            bound = perTransaction;
+        }
+        for (int i = 0; i < deltas.length; i++) {
+            bound[i] += deltas[i];
+        }
+    }
+
+    /**
+     * 校准统计进行中时等待其结束；只有等待中的校准时不排队，
+     * 避免持有读锁的事务在等待本事务的数据库行锁时与校准互相等待
+     */
+    private void lockForDeltas() {
+        if (!recountLock.readLock().tryLock()) {
+            recountLock.readLock().lock();
+        }
+    }
+
+    static int size() {
+        return COUNTERS.length;
+    }
+
+    private void apply(long[] deltas) {
+        for (int i = 0; i < deltas.length; i++) {
+            if (deltas[i] != 0) {
+                pending[i].add(deltas[i]);
+            }
+        }
+    }
+
+    /**
+     * 定期把累计增量写入计数器表
+     */
+    @Scheduled(fixedDelayString = "${app.stats.flush-interval-ms:5000}",
+               initialDelayString = "${app.stats.flush-interval-ms:5000}")
+    public void flush() {
+        if (!ready) {
+            return;
+        }
+        synchronized (flushLock) {
+            LocalDateTime now = LocalDateTime.now();
+            for (int i = 0; i < COUNTERS.length; i++) {
+                long delta = pending[i].sum();
+                if (delta == 0) {
+                    continue;
+                }
+                String name = COUNTERS[i].name();
+                int index = i;
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        if (statCounterRepository.increment(name, delta, now) == 0) {
+                            statCounterRepository.save(new StatCounter(name, persisted[index].get() + delta));
+                        }
+                    });
+                    // 先计入已落库值再扣减待落库增量，读取方最多短暂多看到一次增量
+                    persisted[i].addAndGet(delta);
+                    pending[i].add(-delta);
+                } catch (RuntimeException e) {
+                    log.warn("计数器 {} 落库失败，增量保留到下次: {}", name, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 启动后按源表校准一次
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    @Scheduled(cron = "${app.stats.reconcile-cron:0 30 3 * * *}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    /**
+     * 按源表重新统计并覆盖计数器，返回各计数器的偏差（校准值 - 原值）
+     */
+    public Map<Counter, Long> reconcile() {
+        Map<Counter, Long> drift = new EnumMap<>(Counter.class);
+        synchronized (flushLock) {
+            flush();
+            try {
+                if (!recountLock.writeLock().tryLock(RECOUNT_LOCK_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    log.warn("统计计数器校准等待进行中的事务超时，本次跳过");
+                    return drift;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return drift;
+            }
+            try {
+                overwriteFromSource(drift);
+            } finally {
+                recountLock.writeLock().unlock();
+            }
+            ready = true;
+        }
+        if (drift.isEmpty()) {
+            log.info("统计计数器校准完成，无偏差");
+        } else {
+            log.warn("统计计数器校准完成，修正偏差: {}", drift);
+        }
+        return drift;
+    }
+
+    /**
+     * 持有写锁时执行：已提交事务的增量都已生效且包含在源表统计中，覆盖已落库值时一并扣除
+     */
+    private void overwriteFromSource(Map<Counter, Long> drift) {
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            for (Counter counter : COUNTERS) {
+                int i = counter.ordinal();
+                long included = pending[i].sum();
+                long actual = recount(counter);
+                StatCounter row = statCounterRepository.findById(counter.name()).orElse(null);
+                if (row == null) {
+                    // 首次建立计数器，不算偏差
+                    row = new StatCounter(counter.name(), actual);
+                }
+                long before = ready ? persisted[i].get() + included : row.getValue();
+                if (actual != before) {
+                    drift.put(counter, actual - before);
+                }
+                row.setValue(actual);
+                row.setUpdatedAt(now);
+                statCounterRepository.save(row);
+                persisted[i].set(actual);
+                pending[i].add(-included);
+            }
+        });
+    }
+
+    /**
+     * 各计数器当前值
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (Counter counter : COUNTERS) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("description", counter.getDescription());
+            entry.put("value", get(counter));
+            entry.put("unflushed", pending[counter.ordinal()].sum());
+            stats.put(counter.name(), entry);
+        }
+        return stats;
+    }
+
+    /**
+     * 按源表重新统计
+     */
+    private long recount(Counter counter) {
+        switch (counter) {
+            case ITEMS_TOTAL:
+                return itemRepository.count();
+            case ITEMS_APPROVED:
+                return itemRepository.countApprovedItems();
+            case ITEMS_LOST:
+                return itemRepository.countLostItems();
+            case ITEMS_FOUND:
+                return itemRepository.countFoundItems();
+            case ITEMS_COMPLETED:
+                return itemRepository.countCompletedItems();
+            case CLAIMS_TOTAL:
+                return claimRepository.countAllClaims();
+            case CLAIMS_SUBMITTED:
+                return claimRepository.countPendingClaims();
+            case CLAIMS_APPROVED:
+                return claimRepository.countApprovedClaims();
+            case CLAIMS_COMPLETED:
+                return claimRepository.countCompletedClaims();
+            default:
+                throw new IllegalArgumentException("未知计数器: " + counter);
+        }
+    }
+
+    private static boolean isZero(long[] deltas) {
+        for (long delta : deltas) {
+            if (delta != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,220 @@
+package com.campus.lostfound.stats;
+
+import com.campus.lostfound.event.ItemLifecycleEvent;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 用户未读数缓存（通知、聊天消息）
+ * 按用户ID分段加锁，每段一张表；写入方在事务提交后按增量更新，缓存缺失时由调用方给出的聚合查询加载一次。
+ * 事务提交前先登记“进行中”，加载期间有进行中的事务或发生过变化则本次结果不入缓存，避免与提交后的增量重复计入
+ */
+@Component
+public class UnreadCounterStore {
+
+    private static final int STRIPES = 64;
+
+    /**
+     * 未读数类别
+     */
+    public enum Kind {
+        NOTIFICATION,
+        CHAT
+    }
+
+    private final Object[] locks = new Object[STRIPES];
+    @SuppressWarnings("unchecked")
+    private final Map<Long, Entry>[] stripes = new Map[STRIPES];
+
+    public UnreadCounterStore() {
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+            stripes[i] = new HashMap<>();
+        }
+    }
+
+    /**
+     * 读取未读数，缓存缺失时调用 loader 聚合查询
+     */
+    public long get(Long userId, Kind kind, LongSupplier loader) {
+        int stripe = stripe(userId);
+        long version;
+        synchronized (locks[stripe]) {
+            Entry entry = stripes[stripe].computeIfAbsent(userId, id -> new Entry());
+            long cached = entry.values[kind.ordinal()];
+            if (cached >= 0) {
+                return cached;
+            }
+            version = entry.version;
+        }
+        long loaded = Math.max(0, loader.getAsLong());
+        synchronized (locks[stripe]) {
+            Entry entry = stripes[stripe].get(userId);
+            if (entry != null && entry.version == version && entry.inFlight == 0) {
+                entry.values[kind.ordinal()] = loaded;
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 登记未读数增量：在事务中时提交后生效（回滚则丢弃），无事务时立即生效
+     */
+    public void record(Long userId, Kind kind, long delta) {
+        if (userId == null || delta == 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(userId, kind, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new CommitSynchronization(userId) {
+            @Override
+            public void afterCommit() {
+                apply(userId, kind, delta);
+            }
+        });
+    }
+
+    /**
+     * 作废某个用户的缓存，下次读取时重新加载；在事务中时提交后生效
+     */
+    public void invalidate(Long userId, Kind kind) {
+        if (userId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            clear(userId, kind);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new CommitSynchronization(userId) {
+            @Override
+            public void afterCommit() {
+                clear(userId, kind);
+            }
+        });
+    }
+
+    private void clear(Long userId, Kind kind) {
+        int stripe = stripe(userId);
+        synchronized (locks[stripe]) {
+            Entry entry = stripes[stripe].get(userId);
+            if (entry != null) {
+                entry.values[kind.ordinal()] = -1;
+                entry.version++;
+            }
+        }
+    }
+
+    /**
+     * 删除物品会连带删除多名用户的通知与会话，提交后整体作废
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemLifecycle(ItemLifecycleEvent event) {
+        if (!event.isDeleted()) {
+            return;
+        }
+        for (int i = 0; i < STRIPES; i++) {
+            synchronized (locks[i]) {
+                for (Entry entry : stripes[i].values()) {
+                    entry.clear();
+                }
+            }
+        }
+    }
+
+    private void apply(Long userId, Kind kind, long delta) {
+        int stripe = stripe(userId);
+        synchronized (locks[stripe]) {
+            Entry entry = stripes[stripe].get(userId);
+            if (entry == null) {
+                return;
+            }
+            entry.version++;
+            long cached = entry.values[kind.ordinal()];
+            if (cached >= 0) {
+                entry.values[kind.ordinal()] = Math.max(0, cached + delta);
+            }
+        }
+    }
+
+    private void begin(Long userId) {
+        int stripe = stripe(userId);
+        synchronized (locks[stripe]) {
+            Entry entry = stripes[stripe].computeIfAbsent(userId, id -> new Entry());
+            entry.inFlight++;
+            entry.version++;
+        }
+    }
+
+    private void end(Long userId) {
+        int stripe = stripe(userId);
+        synchronized (locks[stripe]) {
+            Entry entry = stripes[stripe].get(userId);
+            if (entry != null && entry.inFlight > 0) {
+                entry.inFlight--;
+                entry.version++;
+            }
+        }
+    }
+
+    private static int stripe(Long userId) {
+        return (Long.hashCode(userId) & 0x7fffffff) % STRIPES;
+    }
+
+    /**
+     * 提交前登记进行中，提交后（先于其他提交后回调，推送等读取到的已是新值）更新缓存，结束时撤销登记
+     */
+    private abstract class CommitSynchronization implements TransactionSynchronization {
+        private final Long userId;
+        private boolean begun;
+
+        CommitSynchronization(Long userId) {
+            this.userId = userId;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            begin(userId);
+            begun = true;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (begun) {
+                end(userId);
+            }
+        }
+    }
+
+    private static final class Entry {
+        // 各类别未读数，-1 表示未缓存
+        final long[] values = new long[Kind.values().length];
+        // 每次变化递增，用于判断加载期间是否发生过变化
+        long version;
+        // 已进入提交阶段、尚未完成的事务数
+        int inFlight;
+
+        Entry() {
+            Arrays.fill(values, -1);
+        }
+
+        void clear() {
+            Arrays.fill(values, -1);
+            version++;
+        }
+    }
+}
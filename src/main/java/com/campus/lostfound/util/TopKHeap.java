@@ -0,0 +1,63 @@
+package com.campus.lostfound.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 有界 Top-K 堆
+ * 按给定顺序只保留最靠前的 K 个元素，堆顶为当前最差的元素；非线程安全
+ */
+public final class TopKHeap<T> {
+
+    private final int capacity;
+    private final Comparator<? super T> order;
+    private final PriorityQueue<T> heap;
+
+    public TopKHeap(int capacity, Comparator<? super T> order) {
+        this.capacity = Math.max(1, capacity);
+        this.order = order;
+        this.heap = new PriorityQueue<>(this.capacity + 1, order.reversed());
+    }
+
+    /**
+     * 放入元素，返回是否被保留
+     */
+    public boolean offer(T element) {
+        if (heap.size() < capacity) {
+            heap.add(element);
+            return true;
+        }
+        if (order.compare(element, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(element);
+            return true;
+        }
+        return false;
+    }
+
+    public int size() {
+        return heap.size();
+    }
+
+    public boolean isFull() {
+        return heap.size() >= capacity;
+    }
+
+    /**
+     * 当前保留元素中最差的一个，堆为空时返回 null
+     */
+    public T worst() {
+        return heap.peek();
+    }
+
+    /**
+     * 按顺序返回保留的元素
+     */
+    public List<T> toSortedList() {
+        List<T> list = new ArrayList<>(heap);
+        list.sort(order);
+        return list;
+    }
+}
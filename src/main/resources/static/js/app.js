@@ -33,6 +33,9 @@ function initializeApp() {
     // 初始化通知系统
     initNotificationSystem();
     
+    // 初始化通知推送
+    initNotificationStream();
+    
     console.log('校园失物招领系统初始化完成');
 }
 
@@ -165,23 +168,43 @@ function initSearchFunctionality() {
     const searchInput = document.getElementById('searchInput');
     if (!searchInput) return;
     
+    const suggestUrl = searchInput.dataset.suggestUrl;
+    const datalist = document.getElementById(searchInput.getAttribute('list'));
+    if (!suggestUrl || !datalist) return;
+    
     let searchTimeout;
+    let lastQuery = '';
     
     searchInput.addEventListener('input', function() {
         clearTimeout(searchTimeout);
         const query = this.value.trim();
         
-        if (query.length >= 2) {
+        if (query.length >= 1 && query !== lastQuery) {
             searchTimeout = setTimeout(() => {
                 performSearch(query);
-            }, 300);
+            }, 150);
         }
     });
     
-    // 搜索建议
+    // 搜索建议：由服务端前缀树按频次返回候选词
     function performSearch(query) {
-        // 这里可以添加实时搜索功能
-        console.log('搜索:', query);
+        lastQuery = query;
+        fetch(suggestUrl + '?q=' + encodeURIComponent(query) + '&limit=8', {
+            headers: { 'Accept': 'application/json' }
+        })
+            .then(response => response.ok ? response.json() : [])
+            .then(suggestions => {
+                // 回包时输入已变化则丢弃
+                if (query !== searchInput.value.trim()) return;
+                datalist.innerHTML = '';
+                suggestions.forEach(s => {
+                    const option = document.createElement('option');
+                    option.value = s.text;
+                    option.label = s.kindDescription + ' · ' + s.count;
+                    datalist.appendChild(option);
+                });
+            })
+            .catch(error => console.warn('获取搜索建议失败:', error));
     }
 }
 
@@ -266,6 +289,80 @@ function initNotificationSystem() {
     };
 }
 
+/**
+ * 初始化通知推送
+ * 订阅服务端推送流（Server-Sent Events），实时更新导航栏未读角标并提示新通知；
+ * 断线后浏览器自动重连并带回 Last-Event-ID，由服务端补发错过的通知
+ */
+function initNotificationStream() {
+    const bell = document.querySelector('[data-notification-stream]');
+    if (!bell || !window.EventSource) {
+        return;
+    }
+
+    const source = new EventSource(bell.dataset.notificationStream);
+    let received = [];
+
+    // 重连补发时可能一次收到多条，合并成一条提示
+    const announce = debounce(function() {
+        if (received.length === 1) {
+            const n = received[0];
+            showNotification(`<strong>${escapeHtml(n.title)}</strong><br>${escapeHtml(n.content)}`, 'info');
+        } else if (received.length > 1) {
+            showNotification(`收到 ${received.length} 条新通知`, 'info');
+        }
+        received = [];
+    }, 300);
+
+    source.addEventListener('notification', function(event) {
+        received.push(JSON.parse(event.data));
+        announce();
+    });
+
+    source.addEventListener('unread', function(event) {
+        const unread = JSON.parse(event.data);
+        updateUnreadBadge('notifications', unread.notifications, 'bg-danger', '未读通知');
+        updateUnreadBadge('chats', unread.chats, 'bg-success', '未读消息');
+    });
+
+    window.addEventListener('beforeunload', function() {
+        source.close();
+    });
+}
+
+/**
+ * 更新导航栏未读角标，数量为 0 时移除
+ */
+function updateUnreadBadge(kind, count, colorClass, label) {
+    const link = document.querySelector(`[data-unread-badge="${kind}"]`);
+    if (!link) {
+        return;
+    }
+    let badge = link.querySelector('.badge');
+    if (!count) {
+        if (badge) {
+            badge.remove();
+        }
+        return;
+    }
+    if (!badge) {
+        badge = document.createElement('span');
+        badge.className = `position-absolute top-0 start-100 translate-middle badge rounded-pill ${colorClass}`;
+        badge.innerHTML = `<span></span><span class="visually-hidden">${label}</span>`;
+        link.appendChild(badge);
+    }
+    badge.firstElementChild.textContent = count;
+}
+
+/**
+ * 转义 HTML 特殊字符
+ */
+function escapeHtml(text) {
+    const div = document.createElement('div');
+    div.textContent = text == null ? '' : String(text);
+    return div.innerHTML;
+}
+
 /**
  * 格式化日期
  */
@@ -0,0 +1,116 @@
+package com.campus.lostfound.search;
+
+import com.campus.lostfound.entity.Item;
+import com.campus.lostfound.entity.Location;
+import com.campus.lostfound.event.ItemLifecycleEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 全文索引关键词检索：部分字符不同的关键词按比例命中，超长关键词不因子句过多而失败，超大页码返回空页
+ */
+class ItemSearchIndexTest {
+
+    private ItemSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ItemSearchIndex(null, 10, false);
+        index(1L, "蓝牙耳机", "在图书馆三楼捡到一副白色蓝牙耳机，带充电盒");
+        index(2L, "黑色手机", "教学楼A走廊捡到黑色手机一部");
+        index(3L, "学生证", "姓名张三，计算机学院");
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.close();
+    }
+
+    @Test
+    void exactKeywordMatches() {
+        assertEquals(List.of(1L), search("蓝牙耳机"));
+    }
+
+    @Test
+    void partiallyOverlappingKeywordStillMatches() {
+        // 四个字中三个相同
+        assertEquals(List.of(1L), search("蓝色耳机"));
+    }
+
+    @Test
+    void shortKeywordRequiresEveryCharacter() {
+        // “耳机”不应因“机”字命中手机、计算机
+        assertEquals(List.of(1L), search("耳机"));
+    }
+
+    @Test
+    void longKeywordDoesNotFail() {
+        // 十字以上的关键词曾因图查询展开而抛出子句过多，这里与原文只差一个字
+        String keyword = "图书馆三楼捡到一副黑色蓝牙耳机带充电盒";
+        assertTrue(keyword.length() > 10);
+        assertEquals(List.of(1L), search(keyword));
+        String veryLong = keyword.repeat(10);
+        assertTrue(veryLong.length() > ItemSearchIndex.MAX_KEYWORD_LENGTH);
+        assertEquals(List.of(1L), search(veryLong));
+    }
+
+    @Test
+    void unrelatedKeywordMatchesNothing() {
+        // 先确认索引已刷新可见，空结果才说明没有命中
+        assertEquals(List.of(1L), search("耳机"));
+        assertTrue(search("雨伞").isEmpty());
+    }
+
+    @Test
+    void pageBeyondTotalIsEmptyButKeepsTotal() {
+        assertEquals(List.of(1L), search("耳机"));
+        Page<Long> page = index.search("耳机", new ItemEnumFilter(), PageRequest.of(20_000_000, 100)).getPage();
+        assertTrue(page.getContent().isEmpty());
+        assertEquals(1, page.getTotalElements());
+    }
+
+    private List<Long> search(String keyword) {
+        // 近实时刷新在后台线程进行，等待新文档可见
+        long deadline = System.currentTimeMillis() + 2000;
+        List<Long> ids;
+        do {
+            ids = index.search(keyword, new ItemEnumFilter(), PageRequest.of(0, 10)).getPage().getContent();
+            if (!ids.isEmpty() || System.currentTimeMillis() > deadline) {
+                return ids;
+            }
+            sleep();
+        } while (true);
+    }
+
+    private void index(Long id, String title, String description) {
+        Item item = new Item();
+        item.setId(id);
+        item.setTitle(title);
+        item.setDescription(description);
+        item.setPostType(Item.PostType.FOUND);
+        item.setCategory(Item.ItemCategory.OTHER);
+        item.setLocation(Location.LIBRARY);
+        item.setApproved(true);
+        item.setStatus(Item.ItemStatus.PENDING_CLAIM);
+        item.setCreatedAt(LocalDateTime.now());
+        item.setUpdatedAt(LocalDateTime.now());
+        index.onItemLifecycle(new ItemLifecycleEvent(this, item, ItemLifecycleEvent.Type.POSTED));
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(20);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}